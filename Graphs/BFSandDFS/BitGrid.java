@@ -0,0 +1,80 @@
+package Graphs.BFSandDFS;
+
+/**
+ * Bit Grid (bit-packed boolean grid)
+ * Problem: visited[][] and binary images (land / water) spend a whole boolean (a byte) or int per cell.
+ * Approach: pack cells row-major into a long[], 64 cells per word: cell i is bit (i & 63) of words[i >>> 6].
+ * A 40000 x 40000 satellite mask takes 200 MB this way instead of 1.6 GB as int[][].
+ * Space Complexity: rows * cols / 8 bytes.
+ */
+
+public final class BitGrid {
+
+    private final int rows, cols;
+    private final long[] words;
+
+    public BitGrid(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("grid too large");
+        this.rows = rows;
+        this.cols = cols;
+        this.words = new long[(int) (((long) rows * cols + 63) >>> 6)];
+    }
+
+    /** Sets the bit of every cell of grid equal to value. */
+    public static BitGrid of(int[][] grid, int value) {
+        BitGrid g = new BitGrid(grid.length, grid.length == 0 ? 0 : grid[0].length);
+        for (int r = 0, i = 0; r < g.rows; r++) {
+            for (int c = 0; c < g.cols; c++, i++) if (grid[r][c] == value) g.set(i);
+        }
+        return g;
+    }
+
+    /** Sets the bit of every cell of grid equal to value. */
+    public static BitGrid of(ByteGrid grid, int value) {
+        BitGrid g = new BitGrid(grid.rows(), grid.cols());
+        for (int i = 0; i < grid.size(); i++) if (grid.get(i) == value) g.set(i);
+        return g;
+    }
+
+    public int rows() { return rows; }
+
+    public int cols() { return cols; }
+
+    public int size() { return rows * cols; }
+
+    public boolean get(int i) { return (words[i >>> 6] & (1L << i)) != 0; }
+
+    public boolean get(int r, int c) { return get(r * cols + c); }
+
+    public void set(int i) { words[i >>> 6] |= 1L << i; }
+
+    public void clear(int i) { words[i >>> 6] &= ~(1L << i); }
+
+    public int cardinality() {
+        int cnt = 0;
+        for (long w : words) cnt += Long.bitCount(w);
+        return cnt;
+    }
+
+    /** Index of the first set cell at or after i, or -1. */
+    public int nextSet(int i) {
+        if (i >= size()) return -1;
+        int w = i >>> 6;
+        long word = words[w] & (-1L << i);
+        while (true) {
+            if (word != 0) {
+                int res = (w << 6) + Long.numberOfTrailingZeros(word);
+                return res < size() ? res : -1;
+            }
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    public static void main(String[] args) {
+        BitGrid g = BitGrid.of(new int[][]{{1,0,0,1},{1,0,0,0}}, 1);
+        System.out.println("land cells: " + g.cardinality()); // 3
+        for (int i = g.nextSet(0); i != -1; i = g.nextSet(i + 1)) System.out.print(i + " ");
+        System.out.println();
+    }
+}
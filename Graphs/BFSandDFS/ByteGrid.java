@@ -0,0 +1,82 @@
+package Graphs.BFSandDFS;
+
+/**
+ * Byte Grid (flat row-major storage for grid problems)
+ * Problem: RottenOranges, ZeroOneMatrix, FloodFill, NumberOfEnclaves, SurroundedRegions and ConnectedComponentsMatrix
+ * all work on int[][] or char[][]: one array object per row, 4 bytes per cell for values that fit in a byte.
+ * Approach: keep the whole grid in one byte[] where cell (r, c) lives at index r * cols + c. A cell is then a
+ * single int, so queues and stacks hold plain ints (see IntRingQueue) instead of new int[]{r, c}.
+ * Neighbours of index i: i - cols (up, if i >= cols), i + cols (down, if i + cols < size),
+ * i - 1 (left, if i % cols != 0), i + 1 (right, if (i + 1) % cols != 0).
+ * Space Complexity: rows * cols bytes.
+ */
+
+public final class ByteGrid {
+
+    private final int rows, cols;
+    private final byte[] cells;
+
+    public ByteGrid(int rows, int cols) {
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("grid too large");
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new byte[rows * cols];
+    }
+
+    /** Copies an int[][] grid; values must fit in a byte. */
+    public static ByteGrid of(int[][] grid) {
+        ByteGrid g = new ByteGrid(grid.length, grid.length == 0 ? 0 : grid[0].length);
+        for (int r = 0, i = 0; r < g.rows; r++) {
+            for (int c = 0; c < g.cols; c++) g.cells[i++] = (byte) grid[r][c];
+        }
+        return g;
+    }
+
+    /** Copies a char[][] grid; characters are truncated to their low byte (fine for 'X', 'O', '0', '1'). */
+    public static ByteGrid of(char[][] grid) {
+        ByteGrid g = new ByteGrid(grid.length, grid.length == 0 ? 0 : grid[0].length);
+        for (int r = 0, i = 0; r < g.rows; r++) {
+            for (int c = 0; c < g.cols; c++) g.cells[i++] = (byte) grid[r][c];
+        }
+        return g;
+    }
+
+    public int rows() { return rows; }
+
+    public int cols() { return cols; }
+
+    public int size() { return cells.length; }
+
+    public int index(int r, int c) { return r * cols + c; }
+
+    public int get(int i) { return cells[i]; }
+
+    public int get(int r, int c) { return cells[r * cols + c]; }
+
+    public void set(int i, int v) { cells[i] = (byte) v; }
+
+    public void set(int r, int c, int v) { cells[r * cols + c] = (byte) v; }
+
+    public boolean onBorder(int i) {
+        int c = i % cols;
+        return i < cols || i >= cells.length - cols || c == 0 || c == cols - 1;
+    }
+
+    public int[][] toIntArray() {
+        int[][] res = new int[rows][cols];
+        for (int r = 0, i = 0; r < rows; r++) for (int c = 0; c < cols; c++) res[r][c] = cells[i++];
+        return res;
+    }
+
+    public char[][] toCharArray() {
+        char[][] res = new char[rows][cols];
+        for (int r = 0, i = 0; r < rows; r++) for (int c = 0; c < cols; c++) res[r][c] = (char) (cells[i++] & 0xFF);
+        return res;
+    }
+
+    public static void main(String[] args) {
+        ByteGrid g = ByteGrid.of(new int[][]{{2,1,1},{1,1,0},{0,1,1}});
+        System.out.println("cell (1,2) at index " + g.index(1, 2) + " = " + g.get(1, 2));
+        System.out.println("index 4 on border? " + g.onBorder(4)); // false (center)
+    }
+}
@@ -0,0 +1,182 @@
+package Graphs.BFSandDFS;
+
+import java.util.*;
+
+/**
+ * Flat Grid BFS (multi-source BFS problems on ByteGrid / BitGrid)
+ * Problem: Same answers as RottenOranges, ZeroOneMatrix, FloodFill, NumberOfEnclaves, SurroundedRegions and
+ * ConnectedComponentsMatrix, for grids too large for Queue<int[]> (one allocation per visit) or recursive DFS
+ * (one stack frame per cell, StackOverflowError on big regions).
+ * Approach: every cell is an int index into a flat ByteGrid; traversals are BFS with an IntRingQueue and
+ * visited marks live in the grid values themselves or in a BitGrid. Each problem is a multi-source BFS:
+ * - orangesRotting: sources = rotten cells, answer = last level that rotted something
+ * - distanceToZero: sources = zeros, dist[v] = dist[u] + 1
+ * - floodFill: single source, recolour while expanding
+ * - numEnclaves / captureSurrounded: sources = border land / border 'O', everything not reached is enclosed
+ * - countComponents: one BFS per unvisited land cell
+ * Time Complexity: O(rows * cols) for every method.
+ * Space Complexity: the grid itself plus a queue that starts at one frontier (2 * (rows + cols) ints) and
+ * grows only when the BFS front really is wider (plus int[] distances for distanceToZero).
+ */
+
+public class FlatGridBFS {
+
+    public static final int EMPTY = 0, FRESH = 1, ROTTEN = 2;
+
+    /** Minutes until no fresh orange is left, or -1; rots the grid in place. */
+    public int orangesRotting(ByteGrid g) {
+        int size = g.size(), cols = g.cols();
+        IntRingQueue q = new IntRingQueue(frontier(g.rows(), cols));
+        int fresh = 0;
+        for (int i = 0; i < size; i++) {
+            if (g.get(i) == ROTTEN) q.add(i);
+            else if (g.get(i) == FRESH) fresh++;
+        }
+        int minutes = 0;
+        while (!q.isEmpty() && fresh > 0) {
+            boolean turned = false;
+            for (int k = q.size(); k > 0; k--) {
+                int i = q.poll(), c = i % cols;
+                if (i >= cols && g.get(i - cols) == FRESH) { g.set(i - cols, ROTTEN); q.add(i - cols); fresh--; turned = true; }
+                if (i + cols < size && g.get(i + cols) == FRESH) { g.set(i + cols, ROTTEN); q.add(i + cols); fresh--; turned = true; }
+                if (c > 0 && g.get(i - 1) == FRESH) { g.set(i - 1, ROTTEN); q.add(i - 1); fresh--; turned = true; }
+                if (c + 1 < cols && g.get(i + 1) == FRESH) { g.set(i + 1, ROTTEN); q.add(i + 1); fresh--; turned = true; }
+            }
+            if (turned) minutes++;
+        }
+        return fresh == 0 ? minutes : -1;
+    }
+
+    /** Distance of every cell to the nearest 0 cell (row-major), -1 where no 0 is reachable. */
+    public int[] distanceToZero(ByteGrid g) {
+        int size = g.size(), cols = g.cols();
+        int[] dist = new int[size];
+        Arrays.fill(dist, -1);
+        IntRingQueue q = new IntRingQueue(frontier(g.rows(), cols));
+        for (int i = 0; i < size; i++) if (g.get(i) == 0) { dist[i] = 0; q.add(i); }
+        while (!q.isEmpty()) {
+            int i = q.poll(), c = i % cols, d = dist[i] + 1;
+            if (i >= cols && dist[i - cols] < 0) { dist[i - cols] = d; q.add(i - cols); }
+            if (i + cols < size && dist[i + cols] < 0) { dist[i + cols] = d; q.add(i + cols); }
+            if (c > 0 && dist[i - 1] < 0) { dist[i - 1] = d; q.add(i - 1); }
+            if (c + 1 < cols && dist[i + 1] < 0) { dist[i + 1] = d; q.add(i + 1); }
+        }
+        return dist;
+    }
+
+    /** Recolours the 4-connected region of (sr, sc) in place. */
+    public void floodFill(ByteGrid g, int sr, int sc, int newColor) {
+        int start = g.index(sr, sc), old = g.get(start);
+        if (old == (byte) newColor) return;
+        int size = g.size(), cols = g.cols();
+        IntRingQueue q = new IntRingQueue(frontier(g.rows(), cols));
+        g.set(start, newColor);
+        q.add(start);
+        while (!q.isEmpty()) {
+            int i = q.poll(), c = i % cols;
+            if (i >= cols && g.get(i - cols) == old) { g.set(i - cols, newColor); q.add(i - cols); }
+            if (i + cols < size && g.get(i + cols) == old) { g.set(i + cols, newColor); q.add(i + cols); }
+            if (c > 0 && g.get(i - 1) == old) { g.set(i - 1, newColor); q.add(i - 1); }
+            if (c + 1 < cols && g.get(i + 1) == old) { g.set(i + 1, newColor); q.add(i + 1); }
+        }
+    }
+
+    /** Number of land cells of the mask that cannot reach the border. */
+    public int numEnclaves(BitGrid land) {
+        BitGrid reached = reachFromBorder(land);
+        return land.cardinality() - reached.cardinality();
+    }
+
+    /** SurroundedRegions.solve on a ByteGrid of 'X' / 'O': flips every 'O' region not touching the border. */
+    public void captureSurrounded(ByteGrid board) {
+        BitGrid open = BitGrid.of(board, 'O');
+        BitGrid safe = reachFromBorder(open);
+        for (int i = open.nextSet(0); i != -1; i = open.nextSet(i + 1)) {
+            if (!safe.get(i)) board.set(i, 'X');
+        }
+    }
+
+    /** Number of 4-connected components of set cells. */
+    public int countComponents(BitGrid land) {
+        int size = land.size(), cols = land.cols();
+        BitGrid seen = new BitGrid(land.rows(), cols);
+        IntRingQueue q = new IntRingQueue(frontier(land.rows(), cols));
+        int count = 0;
+        for (int s = land.nextSet(0); s != -1; s = land.nextSet(s + 1)) {
+            if (seen.get(s)) continue;
+            count++;
+            seen.set(s);
+            q.add(s);
+            while (!q.isEmpty()) {
+                int i = q.poll(), c = i % cols;
+                if (i >= cols) visit(land, seen, q, i - cols);
+                if (i + cols < size) visit(land, seen, q, i + cols);
+                if (c > 0) visit(land, seen, q, i - 1);
+                if (c + 1 < cols) visit(land, seen, q, i + 1);
+            }
+        }
+        return count;
+    }
+
+    // multi-source BFS from every set border cell; returns the cells reached
+    private BitGrid reachFromBorder(BitGrid mask) {
+        int rows = mask.rows(), cols = mask.cols(), size = mask.size();
+        BitGrid seen = new BitGrid(rows, cols);
+        IntRingQueue q = new IntRingQueue(frontier(rows, cols));
+        for (int c = 0; c < cols; c++) {
+            visit(mask, seen, q, c);
+            visit(mask, seen, q, size - cols + c);
+        }
+        for (int r = 0; r < rows; r++) {
+            visit(mask, seen, q, r * cols);
+            visit(mask, seen, q, r * cols + cols - 1);
+        }
+        while (!q.isEmpty()) {
+            int i = q.poll(), c = i % cols;
+            if (i >= cols) visit(mask, seen, q, i - cols);
+            if (i + cols < size) visit(mask, seen, q, i + cols);
+            if (c > 0) visit(mask, seen, q, i - 1);
+            if (c + 1 < cols) visit(mask, seen, q, i + 1);
+        }
+        return seen;
+    }
+
+    // initial queue size: a typical BFS front on a grid is a band of O(rows + cols) cells
+    static int frontier(int rows, int cols) {
+        return (int) Math.min(2L * (rows + cols), IntRingQueue.MAX_CAPACITY);
+    }
+
+    private static void visit(BitGrid mask, BitGrid seen, IntRingQueue q, int i) {
+        if (mask.get(i) && !seen.get(i)) { seen.set(i); q.add(i); }
+    }
+
+    public static void main(String[] args) {
+        FlatGridBFS sol = new FlatGridBFS();
+
+        ByteGrid oranges = ByteGrid.of(new int[][]{{2,1,1},{1,1,0},{0,1,1}});
+        System.out.println("Minutes to rot all: " + sol.orangesRotting(oranges)); // 4
+
+        ByteGrid mat = ByteGrid.of(new int[][]{{0,0,0},{0,1,0},{1,1,1}});
+        System.out.println("Distances: " + Arrays.toString(sol.distanceToZero(mat))); // [0,0,0,0,1,0,1,2,1]
+
+        ByteGrid image = ByteGrid.of(new int[][]{{1,1,1},{1,1,0},{1,0,1}});
+        sol.floodFill(image, 1, 1, 2);
+        System.out.println("Flood fill: " + Arrays.deepToString(image.toIntArray()));
+
+        BitGrid land = BitGrid.of(new int[][]{{0,0,0,0},{1,0,1,0},{0,1,1,0},{0,0,0,0}}, 1);
+        System.out.println("Enclaves count: " + sol.numEnclaves(land)); // 3
+
+        ByteGrid board = ByteGrid.of(new char[][]{{'X','X','X','X'},{'X','O','O','X'},{'X','X','O','X'},{'X','O','X','X'}});
+        sol.captureSurrounded(board);
+        for (char[] row : board.toCharArray()) System.out.println(Arrays.toString(row));
+
+        BitGrid comps = BitGrid.of(new int[][]{{1,0,0,1},{1,0,0,0},{0,0,1,1},{0,0,0,0}}, 1);
+        System.out.println("Connected components: " + sol.countComponents(comps)); // 3
+
+        // one giant region: recursive DFS would overflow here
+        int n = 3000;
+        BitGrid all = new BitGrid(n, n);
+        for (int i = 0; i < n * n; i++) all.set(i);
+        System.out.println("Components in full " + n + "x" + n + " grid: " + sol.countComponents(all));
+    }
+}
@@ -0,0 +1,83 @@
+package Graphs.BFSandDFS;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Int Ring Queue (growable FIFO of primitive ints)
+ * Problem: BFS over a grid with Queue<int[]> allocates an int[2] plus a LinkedList node for every visit.
+ * Approach: a power-of-two int[] used as a circular buffer; head and tail only ever grow and are masked on access.
+ * When full the buffer doubles (elements are copied in FIFO order), so callers size it by the expected frontier,
+ * not by rows * cols: a BFS frontier on a grid is usually O(rows + cols) cells, and an int per cell would dwarf
+ * a bit-packed grid. Capacity is capped at 2^30 ints.
+ * Time Complexity: O(1) amortized per operation. Space Complexity: O(largest size reached) ints.
+ */
+
+public final class IntRingQueue {
+
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] buf;
+    private int mask;
+    private int head, tail;
+
+    public IntRingQueue() {
+        this(16);
+    }
+
+    public IntRingQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be in [0, 2^30]: " + initialCapacity);
+        }
+        int cap = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        buf = new int[cap];
+        mask = cap - 1;
+    }
+
+    public void add(int x) {
+        if (tail - head == buf.length) grow();
+        buf[tail++ & mask] = x;
+    }
+
+    public int poll() {
+        if (head == tail) throw new NoSuchElementException();
+        return buf[head++ & mask];
+    }
+
+    public boolean isEmpty() { return head == tail; }
+
+    public int size() { return tail - head; }
+
+    public void clear() { head = tail = 0; }
+
+    /** Current buffer length (a power of two). */
+    public int capacity() { return buf.length; }
+
+    private void grow() {
+        if (buf.length == MAX_CAPACITY) throw new IllegalStateException("queue full at 2^30 elements");
+        int n = buf.length, h = head & mask;
+        int[] bigger = new int[n << 1];
+        System.arraycopy(buf, h, bigger, 0, n - h);
+        System.arraycopy(buf, 0, bigger, n - h, h);
+        buf = bigger;
+        mask = bigger.length - 1;
+        head = 0;
+        tail = n;
+    }
+
+    public static void main(String[] args) {
+        IntRingQueue q = new IntRingQueue(3);
+        for (int round = 0; round < 3; round++) {
+            q.add(round); q.add(round + 10);
+            System.out.print(q.poll() + " " + q.poll() + " ");
+        }
+        System.out.println();
+
+        // wrapped contents survive growth in FIFO order
+        IntRingQueue g = new IntRingQueue(4);
+        g.add(1); g.add(2); g.add(3); g.poll(); g.poll();
+        for (int i = 4; i <= 10; i++) g.add(i);
+        StringBuilder sb = new StringBuilder();
+        while (!g.isEmpty()) sb.append(g.poll()).append(' ');
+        System.out.println(sb + "(capacity " + g.capacity() + ")"); // 3 4 5 6 7 8 9 10 (capacity 8)
+    }
+}
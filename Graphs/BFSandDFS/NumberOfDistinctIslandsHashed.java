@@ -0,0 +1,211 @@
+package Graphs.BFSandDFS;
+
+import java.util.*;
+
+/**
+ * Number of Distinct Islands (hashed shape signatures)
+ * Problem: Count distinct island shapes, optionally treating rotated / reflected shapes as the same
+ * (LeetCode 694 and 711). NumberOfDistinctIslands builds a String of "di:dj;" pieces per island and keeps
+ * every one of them in a HashSet<String>, and recurses once per cell.
+ * Approach:
+ * 1) Iterative BFS (IntRingQueue over a BitGrid) collects the cell indices of one island into a reused int[].
+ * 2) Each cell becomes one packed long (row - minRow) << 32 | (col - minCol); sorting the longs gives a
+ *    signature independent of traversal order and position.
+ *    With symmetry on, all 8 rotations/reflections are generated and the lexicographically smallest sorted
+ *    sequence is the canonical one.
+ * 3) The signature is reduced to a 128-bit hash (two independent 64-bit polynomial hashes). A primitive
+ *    open-addressing table keyed by the hash stores only distinct shapes (in one shared long[] arena);
+ *    the full sequences are compared only when two hashes are equal.
+ * Time Complexity: O(n*m + sum of k log k) over islands of k cells (x8 with symmetry).
+ * Space Complexity: n*m / 4 bytes for the two bit grids, plus O(k) ints and longs for the BFS queue and the
+ * scratch buffers of the largest island (k cells), plus the cells of distinct shapes only.
+ */
+
+public class NumberOfDistinctIslandsHashed {
+
+    private static final long P1 = 0x9E3779B97F4A7C15L, P2 = 0xC2B2AE3D27D4EB4FL;
+
+    // distinct shapes: arena[shapeStart[s] .. shapeStart[s] + shapeLen[s])
+    private long[] arena = new long[64];
+    private int arenaSize;
+    private int[] shapeStart = new int[16], shapeLen = new int[16];
+    private int shapes;
+    // hash table: slot -> shape id + 1, keys kept alongside for fast rejection
+    private int[] table = new int[64];
+    private long[] key1 = new long[64], key2 = new long[64];
+
+    // per-island scratch
+    private int[] cells = new int[64];
+    private long[] sig = new long[64], best = new long[64];
+
+    public int numDistinctIslands(int[][] grid) {
+        return count(BitGrid.of(grid, 1), false);
+    }
+
+    /** Shapes equal up to rotation by 90/180/270 degrees and reflection count once. */
+    public int numDistinctIslandsUpToSymmetry(int[][] grid) {
+        return count(BitGrid.of(grid, 1), true);
+    }
+
+    public int count(BitGrid land, boolean symmetry) {
+        reset();
+        int size = land.size(), cols = land.cols();
+        BitGrid seen = new BitGrid(land.rows(), cols);
+        IntRingQueue q = new IntRingQueue(FlatGridBFS.frontier(land.rows(), cols));
+        for (int s = land.nextSet(0); s != -1; s = land.nextSet(s + 1)) {
+            if (seen.get(s)) continue;
+            int k = 0;
+            seen.set(s);
+            q.add(s);
+            while (!q.isEmpty()) {
+                int i = q.poll(), c = i % cols;
+                if (k == cells.length) cells = Arrays.copyOf(cells, k * 2);
+                cells[k++] = i;
+                if (i >= cols) visit(land, seen, q, i - cols);
+                if (i + cols < size) visit(land, seen, q, i + cols);
+                if (c > 0) visit(land, seen, q, i - 1);
+                if (c + 1 < cols) visit(land, seen, q, i + 1);
+            }
+            addShape(k, cols, symmetry);
+        }
+        return shapes;
+    }
+
+    private static void visit(BitGrid land, BitGrid seen, IntRingQueue q, int i) {
+        if (land.get(i) && !seen.get(i)) { seen.set(i); q.add(i); }
+    }
+
+    private void addShape(int k, int cols, boolean symmetry) {
+        if (sig.length < k) { sig = new long[Math.max(k, sig.length * 2)]; best = new long[sig.length]; }
+        int transforms = symmetry ? 8 : 1;
+        for (int t = 0; t < transforms; t++) {
+            signature(k, cols, t);
+            if (t == 0 || compare(sig, best, k) < 0) System.arraycopy(sig, 0, best, 0, k);
+        }
+        long h1 = k, h2 = ~(long) k;
+        for (int i = 0; i < k; i++) {
+            h1 = h1 * P1 + best[i];
+            h2 = (h2 ^ best[i]) * P2;
+        }
+        h1 ^= h1 >>> 29;
+        h2 ^= h2 >>> 31;
+
+        int mask = table.length - 1;
+        int slot = (int) (h1 ^ (h1 >>> 32)) & mask;
+        while (table[slot] != 0) {
+            int id = table[slot] - 1;
+            if (key1[slot] == h1 && key2[slot] == h2 && shapeLen[id] == k
+                    && Arrays.equals(arena, shapeStart[id], shapeStart[id] + k, best, 0, k)) {
+                return; // seen before
+            }
+            slot = (slot + 1) & mask;
+        }
+        store(slot, h1, h2, k);
+    }
+
+    // sorted packed offsets of the island under transform t (0 = identity)
+    private void signature(int k, int cols, int t) {
+        int minR = Integer.MAX_VALUE, minC = Integer.MAX_VALUE;
+        for (int i = 0; i < k; i++) {
+            int r = cells[i] / cols, c = cells[i] % cols;
+            int tr = tr(r, c, t), tc = tc(r, c, t);
+            minR = Math.min(minR, tr);
+            minC = Math.min(minC, tc);
+        }
+        for (int i = 0; i < k; i++) {
+            int r = cells[i] / cols, c = cells[i] % cols;
+            sig[i] = ((long) (tr(r, c, t) - minR) << 32) | (tc(r, c, t) - minC);
+        }
+        Arrays.sort(sig, 0, k);
+    }
+
+    // the 8 symmetries of the square: optional transpose, then optional row / column flips
+    private static int tr(int r, int c, int t) {
+        int x = (t & 4) != 0 ? c : r;
+        return (t & 1) != 0 ? -x : x;
+    }
+
+    private static int tc(int r, int c, int t) {
+        int y = (t & 4) != 0 ? r : c;
+        return (t & 2) != 0 ? -y : y;
+    }
+
+    private static int compare(long[] a, long[] b, int k) {
+        for (int i = 0; i < k; i++) if (a[i] != b[i]) return Long.compare(a[i], b[i]);
+        return 0;
+    }
+
+    private void store(int slot, long h1, long h2, int k) {
+        if (arenaSize + k > arena.length) arena = Arrays.copyOf(arena, Math.max(arenaSize + k, arena.length * 2));
+        System.arraycopy(best, 0, arena, arenaSize, k);
+        if (shapes == shapeStart.length) {
+            shapeStart = Arrays.copyOf(shapeStart, shapes * 2);
+            shapeLen = Arrays.copyOf(shapeLen, shapes * 2);
+        }
+        shapeStart[shapes] = arenaSize;
+        shapeLen[shapes] = k;
+        arenaSize += k;
+        table[slot] = ++shapes;
+        key1[slot] = h1;
+        key2[slot] = h2;
+        if (shapes * 2 > table.length) rehash();
+    }
+
+    private void rehash() {
+        int[] oldTable = table;
+        long[] old1 = key1, old2 = key2;
+        table = new int[oldTable.length * 2];
+        key1 = new long[table.length];
+        key2 = new long[table.length];
+        int mask = table.length - 1;
+        for (int s = 0; s < oldTable.length; s++) {
+            if (oldTable[s] == 0) continue;
+            int slot = (int) (old1[s] ^ (old1[s] >>> 32)) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = oldTable[s];
+            key1[slot] = old1[s];
+            key2[slot] = old2[s];
+        }
+    }
+
+    private void reset() {
+        Arrays.fill(table, 0);
+        shapes = 0;
+        arenaSize = 0;
+    }
+
+    public static void main(String[] args) {
+        NumberOfDistinctIslandsHashed sol = new NumberOfDistinctIslandsHashed();
+        int[][] grid = {
+            {1,1,0,0,0},
+            {1,0,0,0,0},
+            {0,0,0,1,1},
+            {0,0,0,1,1}
+        };
+        System.out.println("Distinct islands: " + sol.numDistinctIslands(grid)); // 2
+
+        int[][] mirrored = {
+            {1,1,0,0,0},
+            {1,0,0,0,0},
+            {0,0,0,0,1},
+            {0,0,0,1,1}
+        };
+        System.out.println("Distinct islands: " + sol.numDistinctIslands(mirrored));                     // 2
+        System.out.println("Distinct up to symmetry: " + sol.numDistinctIslandsUpToSymmetry(mirrored)); // 1
+
+        // large sparse map: many copies of a few shapes
+        int n = 3000;
+        Random rnd = new Random(8);
+        int[][] big = new int[n][n];
+        for (int i = 0; i < 200_000; i++) {
+            int r = rnd.nextInt(n - 3), c = rnd.nextInt(n - 3);
+            big[r][c] = big[r + 1][c] = 1;
+            if (rnd.nextBoolean()) big[r + 1][c + 1] = 1;
+        }
+        long t0 = System.nanoTime();
+        int a = sol.numDistinctIslands(big);
+        long t1 = System.nanoTime();
+        System.out.printf("Large map: %d distinct shapes (%.0f ms), %d up to symmetry%n",
+                a, (t1 - t0) / 1e6, sol.numDistinctIslandsUpToSymmetry(big));
+    }
+}
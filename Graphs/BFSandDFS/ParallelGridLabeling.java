@@ -0,0 +1,124 @@
+package Graphs.BFSandDFS;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Connected-Component Labeling (two-pass, union-find across tile boundaries)
+ * Problem: Label every set cell of a huge binary grid with the id of its 4-connected component
+ * (ConnectedComponentsMatrix only counts them, with one recursive DFS per component).
+ * Approach:
+ * 1) Split the rows into horizontal tiles. Each tile runs the classic first pass independently and in parallel:
+ *    scan row-major, union every set cell with its set left and up neighbours inside the tile. The union-find
+ *    parent array is shared, but a tile only ever writes the entries of its own cells, so no locking is needed.
+ *    Roots are always the smallest index in the set, which keeps the merge step deterministic.
+ * 2) Sequentially union vertically adjacent set cells across each tile boundary (cols work per boundary).
+ * 3) Number the roots 1..k in index order, then in parallel give every cell the number of its root.
+ *    This pass only reads the parent array.
+ * Time Complexity: O(N * alpha(N)) total work, O(N / P + tiles * cols) span with P workers.
+ * Space Complexity: two int[N] arrays (parents, labels) plus the BitGrid input.
+ */
+
+public class ParallelGridLabeling {
+
+    private final int tiles;
+
+    public ParallelGridLabeling() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public ParallelGridLabeling(int tiles) {
+        this.tiles = Math.max(1, tiles);
+    }
+
+    private int count;
+
+    /** Component count of the last label() call. */
+    public int componentCount() { return count; }
+
+    /** Returns label[i] in 1..componentCount() for set cells and 0 for clear cells (row-major). */
+    public int[] label(BitGrid grid) {
+        int rows = grid.rows(), cols = grid.cols(), size = grid.size();
+        int[] parent = new int[size];
+        int t = Math.max(1, Math.min(tiles, rows));
+        int rowsPerTile = (rows + t - 1) / Math.max(1, t);
+
+        // pass 1: local union-find inside every tile
+        IntStream.range(0, t).parallel().forEach(k -> {
+            int r0 = k * rowsPerTile, r1 = Math.min(rows, r0 + rowsPerTile);
+            for (int r = r0; r < r1; r++) {
+                for (int c = 0, i = r * cols; c < cols; c++, i++) {
+                    if (!grid.get(i)) continue;
+                    parent[i] = i;
+                    if (c > 0 && grid.get(i - 1)) union(parent, i - 1, i);
+                    if (r > r0 && grid.get(i - cols)) union(parent, i - cols, i);
+                }
+            }
+        });
+
+        // pass 2: stitch tiles together along their boundaries
+        for (int r = rowsPerTile; r < rows; r += rowsPerTile) {
+            for (int c = 0, i = r * cols; c < cols; c++, i++) {
+                if (grid.get(i) && grid.get(i - cols)) union(parent, i - cols, i);
+            }
+        }
+
+        // pass 3: compact root ids, then relabel in parallel (read-only finds)
+        int[] label = new int[size];
+        int k = 0;
+        for (int i = grid.nextSet(0); i != -1; i = grid.nextSet(i + 1)) {
+            if (parent[i] == i) label[i] = ++k;
+        }
+        count = k;
+        IntStream.range(0, t).parallel().forEach(tile -> {
+            int from = tile * rowsPerTile * cols, to = Math.min(size, (tile + 1) * rowsPerTile * cols);
+            for (int i = from < size ? grid.nextSet(from) : -1; i != -1 && i < to; i = grid.nextSet(i + 1)) {
+                int root = i;
+                while (parent[root] != root) root = parent[root];
+                if (root != i) label[i] = label[root];
+            }
+        });
+        return label;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // path halving
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // links the larger root under the smaller one
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra < rb) parent[rb] = ra;
+        else if (rb < ra) parent[ra] = rb;
+    }
+
+    public static void main(String[] args) {
+        BitGrid grid = BitGrid.of(new int[][]{
+            {1,0,0,1},
+            {1,0,0,0},
+            {0,0,1,1},
+            {0,0,0,0}
+        }, 1);
+        ParallelGridLabeling ccl = new ParallelGridLabeling(2);
+        int[] label = ccl.label(grid);
+        System.out.println("Connected components: " + ccl.componentCount()); // 3
+        for (int r = 0; r < grid.rows(); r++) {
+            System.out.println(Arrays.toString(Arrays.copyOfRange(label, r * grid.cols(), (r + 1) * grid.cols())));
+        }
+
+        // random 4000x4000 image, cross-checked with the BFS count
+        int n = 4000;
+        Random rnd = new Random(1);
+        BitGrid big = new BitGrid(n, n);
+        for (int i = 0; i < n * n; i++) if (rnd.nextInt(100) < 55) big.set(i);
+        ParallelGridLabeling par = new ParallelGridLabeling();
+        long t0 = System.nanoTime();
+        par.label(big);
+        System.out.printf("Parallel labeling: %d components in %.0f ms%n", par.componentCount(), (System.nanoTime() - t0) / 1e6);
+        System.out.println("BFS count:         " + new FlatGridBFS().countComponents(big));
+    }
+}
@@ -0,0 +1,329 @@
+package Graphs.BFSandDFS;
+
+import java.util.*;
+
+/**
+ * Word Ladder Index (wildcard buckets + bidirectional BFS, reusable across queries)
+ *
+ * Problem: Same questions as WordLadder1 (shortest ladder length) and WordLadder2 (all shortest ladders),
+ * but asked many times against one large dictionary. The per-query approach in those classes builds
+ * new String(arr) 26 * L times for every dequeued word and probes a HashSet<String>, so most of the
+ * time goes into allocating and hashing throw-away strings.
+ *
+ * Approach:
+ * 1) Index once. Every word gets an int id. Every wildcard pattern ("h*t" = word with one position
+ *    blanked) gets a bucket id, and bucket b lists the ids of all words matching it (CSR arrays
+ *    bucketStart / bucketWords). slotBucket[start[w] + i] is the bucket of word w with position i blanked.
+ *    Two words are neighbours exactly when they share a bucket.
+ *    Patterns are found through an open-addressing int table keyed by a hash of the pattern; equality is
+ *    checked with String.regionMatches around the blank, so no pattern string is ever built.
+ * 2) Bidirectional BFS. Search from begin and from end at the same time, always expanding the smaller
+ *    frontier one full level. A bucket is scanned at most once per side: after the first scan every word
+ *    in it already has a distance on that side. The search stops after the level in which the two sides
+ *    meet; the best meeting point gives the ladder length.
+ * 3) Ladder enumeration. A level-by-level BFS from begin scans each bucket once: members at level d are
+ *    parents of members first reached at level d + 1. Parent links are kept as int linked lists, and
+ *    Strings are only touched when the final ladders are emitted (they are the dictionary's own Strings).
+ * Per-query state uses epoch stamps instead of clearing arrays, so a query costs only what it visits.
+ * That scratch state makes an index single-threaded: use one index per thread for concurrent queries.
+ *
+ * Time Complexity: index O(N * L) expected (hashing L patterns of length L each is O(N * L^2) char reads);
+ * a query is O(visited words * L + scanned bucket sizes).
+ * Space Complexity: O(N * L) ints.
+ */
+
+public class WordLadderIndex {
+
+    private final String[] words;       // id -> word (deduplicated)
+    private final int[] start;          // start[w] = first pattern slot of w, start[n] = total slots
+    private final int[] slotBucket;     // pattern slot -> bucket id
+    private final int[] bucketStart, bucketWords;
+    private final int[] repWord, repBlank;   // bucket -> one word and blank position, for equality checks
+    private final int[] patternTable;   // bucket id + 1, 0 = empty
+    private final int[] wordTable;      // word id + 1, 0 = empty
+    private final int n;
+
+    // per-query scratch, reused; a stamp equal to epoch means "set during this query"
+    private int epoch;
+    private final int[] stampF, stampB, distF, distB;
+    private final int[] bucketStampF, bucketStampB;
+    private final int[] queueF, queueB;
+    private final int[] extraBuckets;   // buckets of a begin word missing from the dictionary
+    private int virtualLength;
+    private final int[] parents;        // parents found in one bucket during enumeration
+    private int[] parentHead, parentNext = new int[16], parentOf = new int[16];
+
+    public WordLadderIndex(Collection<String> wordList) {
+        // 1) deduplicate and assign ids
+        int cap = tableSize(wordList.size());
+        int[] wt = new int[cap];
+        String[] ws = new String[wordList.size()];
+        int cnt = 0;
+        for (String w : wordList) {
+            int slot = probeWord(wt, ws, w);
+            if (wt[slot] == 0) { ws[cnt] = w; wt[slot] = ++cnt; }
+        }
+        words = Arrays.copyOf(ws, cnt);
+        wordTable = wt;
+        n = cnt;
+
+        start = new int[n + 1];
+        for (int w = 0; w < n; w++) start[w + 1] = start[w] + words[w].length();
+        int slots = start[n];
+
+        // 2) assign bucket ids to patterns
+        slotBucket = new int[slots];
+        patternTable = new int[tableSize(slots)];
+        int[] rw = new int[Math.max(1, slots)], rb = new int[Math.max(1, slots)];
+        int buckets = 0, maxLen = 0;
+        for (int w = 0; w < n; w++) {
+            String s = words[w];
+            maxLen = Math.max(maxLen, s.length());
+            for (int i = 0; i < s.length(); i++) {
+                int t = probePattern(patternTable, rw, rb, s, i);
+                if (patternTable[t] == 0) { rw[buckets] = w; rb[buckets] = i; patternTable[t] = ++buckets; }
+                slotBucket[start[w] + i] = patternTable[t] - 1;
+            }
+        }
+        repWord = Arrays.copyOf(rw, buckets);
+        repBlank = Arrays.copyOf(rb, buckets);
+
+        // 3) bucket member lists (CSR)
+        bucketStart = new int[buckets + 1];
+        for (int b : slotBucket) bucketStart[b + 1]++;
+        for (int b = 0; b < buckets; b++) bucketStart[b + 1] += bucketStart[b];
+        int[] fill = Arrays.copyOf(bucketStart, buckets);
+        bucketWords = new int[slots];
+        for (int w = 0; w < n; w++) {
+            for (int k = start[w]; k < start[w + 1]; k++) bucketWords[fill[slotBucket[k]]++] = w;
+        }
+        int maxBucket = 1;
+        for (int b = 0; b < buckets; b++) maxBucket = Math.max(maxBucket, bucketStart[b + 1] - bucketStart[b]);
+
+        stampF = new int[n + 1]; stampB = new int[n + 1];
+        distF = new int[n + 1]; distB = new int[n + 1];
+        bucketStampF = new int[buckets]; bucketStampB = new int[buckets];
+        queueF = new int[n + 1]; queueB = new int[n + 1];
+        parentHead = new int[n + 1];
+        parents = new int[maxBucket];
+        extraBuckets = new int[maxLen];
+    }
+
+    public int wordCount() { return n; }
+
+    public int bucketCount() { return repWord.length; }
+
+    /** Id of a dictionary word, or -1. */
+    public int idOf(String w) {
+        int t = probeWord(wordTable, words, w);
+        return wordTable[t] - 1;
+    }
+
+    /**
+     * Number of words in the shortest ladder from begin to end (both included), 0 if none.
+     * Same contract as WordLadder1.ladderLength; end must be in the dictionary, begin need not be.
+     */
+    public int ladderLength(String begin, String end) {
+        int e = idOf(end);
+        if (e < 0 || begin.length() != end.length()) return 0;
+        if (begin.equals(end)) return 1;
+        int b = prepareBegin(begin);
+        nextEpoch();
+
+        int fHead = 0, fTail = 0, bHead = 0, bTail = 0;
+        queueF[fTail++] = b; stampF[b] = epoch; distF[b] = 0;
+        queueB[bTail++] = e; stampB[e] = epoch; distB[e] = 0;
+
+        while (fHead < fTail && bHead < bTail) {
+            int best = Integer.MAX_VALUE;
+            boolean forward = fTail - fHead <= bTail - bHead;
+            int[] q = forward ? queueF : queueB;
+            int[] stamp = forward ? stampF : stampB, dist = forward ? distF : distB;
+            int[] other = forward ? stampB : stampF, otherDist = forward ? distB : distF;
+            int[] bStamp = forward ? bucketStampF : bucketStampB;
+            int head = forward ? fHead : bHead, tail = forward ? fTail : bTail;
+            int levelEnd = tail;
+
+            while (head < levelEnd) {
+                int u = q[head++];
+                int du = dist[u];
+                for (int k = 0, deg = patternCount(u); k < deg; k++) {
+                    int bucket = patternBucket(u, k);
+                    if (bucket < 0 || bStamp[bucket] == epoch) continue;
+                    bStamp[bucket] = epoch;
+                    for (int j = bucketStart[bucket]; j < bucketStart[bucket + 1]; j++) {
+                        int v = bucketWords[j];
+                        if (stamp[v] == epoch) continue;
+                        stamp[v] = epoch;
+                        dist[v] = du + 1;
+                        q[tail++] = v;
+                        if (other[v] == epoch) best = Math.min(best, du + 1 + otherDist[v]);
+                    }
+                }
+            }
+            if (forward) { fHead = head; fTail = tail; } else { bHead = head; bTail = tail; }
+            if (best != Integer.MAX_VALUE) return best + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * All shortest ladders from begin to end; same contract as WordLadder2.findLadders.
+     */
+    public List<List<String>> findLadders(String begin, String end) {
+        List<List<String>> res = new ArrayList<>();
+        int e = idOf(end);
+        if (e < 0 || begin.length() != end.length()) return res;
+        if (begin.equals(end)) { res.add(List.of(begin)); return res; }
+        int b = prepareBegin(begin);
+        nextEpoch();
+
+        int head = 0, tail = 0, links = 0;
+        queueF[tail++] = b; stampF[b] = epoch; distF[b] = 0; parentHead[b] = -1;
+        boolean found = false;
+        while (head < tail && !found) {
+            int levelEnd = tail;
+            int d = distF[queueF[head]];
+            for (int h = head; h < levelEnd; h++) {
+                int u = queueF[h];
+                for (int k = 0, deg = patternCount(u); k < deg; k++) {
+                    int bucket = patternBucket(u, k);
+                    if (bucket < 0 || bucketStampF[bucket] == epoch) continue;
+                    bucketStampF[bucket] = epoch;
+                    // parents: members at level d (or the virtual begin word, which is in no bucket)
+                    int np = 0;
+                    if (u == n) parents[np++] = n;
+                    for (int j = bucketStart[bucket]; j < bucketStart[bucket + 1]; j++) {
+                        int p = bucketWords[j];
+                        if (stampF[p] == epoch && distF[p] == d) parents[np++] = p;
+                    }
+                    // children: members that are new or already at level d + 1
+                    for (int j = bucketStart[bucket]; j < bucketStart[bucket + 1]; j++) {
+                        int v = bucketWords[j];
+                        if (stampF[v] == epoch && distF[v] != d + 1) continue;
+                        if (stampF[v] != epoch) {
+                            stampF[v] = epoch;
+                            distF[v] = d + 1;
+                            parentHead[v] = -1;
+                            queueF[tail++] = v;
+                            if (v == e) found = true;
+                        }
+                        for (int i = 0; i < np; i++) links = addParent(v, parents[i], links);
+                    }
+                }
+            }
+            head = levelEnd;
+        }
+        if (!found) return res;
+
+        int[] path = new int[distF[e] + 1];
+        path[distF[e]] = e;
+        collect(e, distF[e], begin, path, res);
+        return res;
+    }
+
+    // ---------------------------------------------------------------- query helpers
+
+    /** Returns the id of begin; a word outside the dictionary is given the virtual id n. */
+    private int prepareBegin(String begin) {
+        int id = idOf(begin);
+        if (id >= 0) return id;
+        for (int i = 0; i < begin.length(); i++) {
+            int t = probePattern(patternTable, repWord, repBlank, begin, i);
+            extraBuckets[i] = patternTable[t] - 1;
+        }
+        virtualLength = begin.length();
+        return n;
+    }
+
+    private int patternCount(int w) { return w == n ? virtualLength : start[w + 1] - start[w]; }
+
+    private int patternBucket(int w, int k) { return w == n ? extraBuckets[k] : slotBucket[start[w] + k]; }
+
+    private void nextEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            epoch = 1;
+            Arrays.fill(stampF, 0); Arrays.fill(stampB, 0);
+            Arrays.fill(bucketStampF, 0); Arrays.fill(bucketStampB, 0);
+        }
+    }
+
+    private int addParent(int child, int parent, int links) {
+        if (links == parentOf.length) {
+            parentOf = Arrays.copyOf(parentOf, links * 2);
+            parentNext = Arrays.copyOf(parentNext, links * 2);
+        }
+        parentOf[links] = parent;
+        parentNext[links] = parentHead[child];
+        parentHead[child] = links;
+        return links + 1;
+    }
+
+    // walks parent links from the end word back to begin; depth is the ladder length
+    private void collect(int v, int depth, String beginWord, int[] path, List<List<String>> res) {
+        if (depth == 0) {
+            List<String> ladder = new ArrayList<>(path.length);
+            for (int id : path) ladder.add(id == n ? beginWord : words[id]);
+            res.add(ladder);
+            return;
+        }
+        for (int k = parentHead[v]; k != -1; k = parentNext[k]) {
+            path[depth - 1] = parentOf[k];
+            collect(parentOf[k], depth - 1, beginWord, path, res);
+        }
+    }
+
+    // ---------------------------------------------------------------- hashing
+
+    private static int tableSize(int entries) {
+        int cap = 16;
+        while (cap < entries * 2) cap <<= 1;
+        return cap;
+    }
+
+    private static int mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int probeWord(int[] table, String[] ids, String w) {
+        int mask = table.length - 1;
+        int t = mix(w.hashCode() * 0x9E3779B97F4A7C15L) & mask;
+        while (table[t] != 0 && !ids[table[t] - 1].equals(w)) t = (t + 1) & mask;
+        return t;
+    }
+
+    private static long patternHash(CharSequence s, int blank) {
+        long h = s.length() * 31L + blank;
+        for (int i = 0; i < s.length(); i++) if (i != blank) h = h * 0x100000001B3L + s.charAt(i);
+        return h;
+    }
+
+    // finds the table slot holding the bucket of s with position `blank` blanked, or the empty slot for it
+    private int probePattern(int[] table, int[] rw, int[] rb, String s, int blank) {
+        int mask = table.length - 1;
+        int t = mix(patternHash(s, blank)) & mask;
+        while (table[t] != 0) {
+            int b = table[t] - 1;
+            String r = words[rw[b]];
+            if (rb[b] == blank && r.length() == s.length()
+                    && r.regionMatches(0, s, 0, blank)
+                    && r.regionMatches(blank + 1, s, blank + 1, s.length() - blank - 1)) break;
+            t = (t + 1) & mask;
+        }
+        return t;
+    }
+
+    public static void main(String[] args) {
+        List<String> dict = Arrays.asList("hot", "dot", "dog", "lot", "log", "cog");
+        WordLadderIndex index = new WordLadderIndex(dict);
+        System.out.println("words=" + index.wordCount() + " buckets=" + index.bucketCount());
+        System.out.println("hit -> cog length: " + index.ladderLength("hit", "cog")); // 5
+        System.out.println("hot -> log length: " + index.ladderLength("hot", "log")); // 3
+        System.out.println("hit -> cog ladders: " + index.findLadders("hit", "cog"));
+        System.out.println("dot -> lot ladders: " + index.findLadders("dot", "lot"));
+        System.out.println("hit -> xyz length: " + index.ladderLength("hit", "xyz")); // 0
+    }
+}
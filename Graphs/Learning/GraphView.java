@@ -0,0 +1,47 @@
+package Graphs.Learning;
+
+/**
+ * =========================================================
+ * GRAPH VIEW (read-only neighbour iteration)
+ * =========================================================
+ *
+ * The primitive graph algorithms only ever ask three questions:
+ *   - how many vertices?
+ *   - which arc slots belong to v?   start(v) .. end(v) - 1
+ *   - where does slot i go / what does it weigh?
+ *
+ * Keeping them behind this interface lets the same code run on an
+ * in-heap CsrGraph or on a memory-mapped MappedGraph file.
+ *
+ *   for (int i = g.start(v); i < g.end(v); i++) {
+ *       int to = g.target(i);
+ *       ...
+ *   }
+ *
+ * =========================================================
+ */
+
+public interface GraphView {
+
+    int vertexCount();
+
+    int arcCount();
+
+    /** First arc slot of v. */
+    int start(int v);
+
+    /** One past the last arc slot of v. */
+    int end(int v);
+
+    int target(int slot);
+
+    /** Weight of the arc in the slot; 1 for unweighted graphs. */
+    int weight(int slot);
+
+    boolean isWeighted();
+
+    /** Input edge index of the arc; defaults to the slot itself. */
+    default int edgeId(int slot) { return slot; }
+
+    default int degree(int v) { return end(v) - start(v); }
+}
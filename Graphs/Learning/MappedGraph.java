@@ -0,0 +1,339 @@
+package Graphs.Learning;
+
+import java.io.*;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * =========================================================
+ * MEMORY-MAPPED CSR GRAPH FILE
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * Building List<Integer>[] (or even a CsrGraph) for a graph with a
+ * billion edges means parsing the whole input and filling the heap
+ * on every start. Instead the CSR arrays are written once to a binary
+ * file and mapped back with FileChannel.map:
+ *
+ * ✔ open() only reads the header → a restart is almost instant
+ * ✔ pages are loaded lazily by the OS and shared between processes
+ * ✔ the data lives outside the Java heap
+ * ❌ read-only; changing the graph means converting again
+ *
+ * ---------------------------------------------------------
+ * 2. FILE LAYOUT (little-endian)
+ * ---------------------------------------------------------
+ *   header (64 bytes)
+ *     magic "CSRGRAPH" | int version | int flags | long n | long m
+ *     | long offsetsPos | long targetsPos | long weightsPos | long edgeIdsPos
+ *   offsets : (n + 1) longs
+ *   targets : m ints
+ *   weights : m ints      (flags bit 0)
+ *   edgeIds : m ints      (flags bit 1, shared id of the two arcs of an undirected edge)
+ *
+ * Every section starts on an 8-byte boundary. The file is mapped in
+ * 1 GiB segments (one MappedByteBuffer is limited to 2 GiB), and since
+ * 2^30 is a multiple of 8 no value ever straddles two segments.
+ *
+ * Arc slots are ints in GraphView, so a file holds at most
+ * Integer.MAX_VALUE arcs (about 2.1 billion).
+ *
+ * ---------------------------------------------------------
+ * 3. STREAMING CONVERSION FROM A TEXT EDGE LIST
+ * ---------------------------------------------------------
+ * convertEdgeList reads "u v" or "u v w" lines twice:
+ * 1. count out-degrees (the only O(V) heap structure)
+ * 2. write offsets, then scatter every arc straight into the mapped
+ *    output through a per-vertex fill cursor
+ * No edge array is ever held in memory.
+ *
+ * =========================================================
+ */
+
+public final class MappedGraph implements GraphView {
+
+    private static final long MAGIC = 0x48504152_47525343L; // "CSRGRAPH" read as little-endian long
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int FLAG_WEIGHTED = 1;
+    private static final int FLAG_EDGE_IDS = 2;
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final Segments data;
+    private final int n, m;
+    private final long offsetsPos, targetsPos, weightsPos, edgeIdsPos; // 0 when the section is absent
+
+    private MappedGraph(Segments data) {
+        if (data.getLong(0) != MAGIC) throw new IllegalArgumentException("not a CSR graph file");
+        if (data.getInt(8) != VERSION) throw new IllegalArgumentException("unsupported version " + data.getInt(8));
+        long vertices = data.getLong(16), arcs = data.getLong(24);
+        if (vertices >= Integer.MAX_VALUE || arcs > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("graph too large for int arc slots");
+        }
+        this.data = data;
+        this.n = (int) vertices;
+        this.m = (int) arcs;
+        this.offsetsPos = data.getLong(32);
+        this.targetsPos = data.getLong(40);
+        this.weightsPos = data.getLong(48);
+        this.edgeIdsPos = data.getLong(56);
+    }
+
+    /**
+     * Maps a file written by write() or convertEdgeList() read-only. Only the header is read here.
+     */
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedGraph(Segments.map(ch, FileChannel.MapMode.READ_ONLY, ch.size()));
+        }
+    }
+
+    /**
+     * Writes any graph view (typically an in-heap CsrGraph) in the mapped format.
+     * Edge ids are stored only if some arc's id differs from its slot (undirected graphs).
+     */
+    public static void write(GraphView g, Path file) throws IOException {
+        int n = g.vertexCount(), m = g.arcCount();
+        boolean ids = false;
+        for (int i = 0; i < m && !ids; i++) ids = g.edgeId(i) != i;
+        Layout lay = new Layout(n, m, g.isWeighted(), ids);
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Segments out = Segments.map(ch, FileChannel.MapMode.READ_WRITE, lay.size);
+            lay.writeHeader(out);
+            for (int v = 0; v <= n; v++) out.putLong(lay.offsetsPos + 8L * v, v == n ? m : g.start(v));
+            for (int i = 0; i < m; i++) {
+                out.putInt(lay.targetsPos + 4L * i, g.target(i));
+                if (lay.weighted) out.putInt(lay.weightsPos + 4L * i, g.weight(i));
+                if (ids) out.putInt(lay.edgeIdsPos + 4L * i, g.edgeId(i));
+            }
+            out.force();
+        }
+    }
+
+    /**
+     * Converts a text edge list into the mapped format without materializing the edges.
+     * Each non-empty line is "u v" or "u v w" (whitespace separated, 0-based ids); lines starting
+     * with '#' are comments. The number of vertices is 1 + the largest id seen. The first edge line
+     * decides whether the graph is weighted.
+     *
+     * @param undirected store every edge as two arcs sharing the line's edge id
+     */
+    public static void convertEdgeList(Path in, Path out, boolean undirected) throws IOException {
+        // pass 1: out-degrees
+        int[] deg = new int[16];
+        int n = 0, edges = 0;
+        long arcs = 0;
+        int weightedFlag = -1;
+        long[] tok = new long[3];
+        try (BufferedReader r = Files.newBufferedReader(in, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                int k = parse(line, tok);
+                if (k == 0) continue;
+                if (weightedFlag < 0) weightedFlag = k == 3 ? 1 : 0;
+                int u = vertex(tok[0]), v = vertex(tok[1]);
+                int hi = Math.max(u, v);
+                if (hi >= deg.length) deg = Arrays.copyOf(deg, Math.max(hi + 1, deg.length * 2));
+                n = Math.max(n, hi + 1);
+                deg[u]++;
+                if (undirected) deg[v]++;
+                arcs += undirected ? 2 : 1;
+                edges++;
+            }
+        }
+        if (arcs > Integer.MAX_VALUE) throw new IllegalArgumentException("too many arcs: " + arcs);
+        int m = (int) arcs;
+        Layout lay = new Layout(n, m, weightedFlag == 1, undirected);
+
+        // pass 2: offsets, then scatter arcs into their slots
+        try (FileChannel ch = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedReader r = Files.newBufferedReader(in, StandardCharsets.US_ASCII)) {
+            Segments dst = Segments.map(ch, FileChannel.MapMode.READ_WRITE, lay.size);
+            lay.writeHeader(dst);
+            int[] fill = new int[n];
+            int sum = 0;
+            for (int v = 0; v < n; v++) {
+                dst.putLong(lay.offsetsPos + 8L * v, sum);
+                fill[v] = sum;
+                sum += deg[v];
+            }
+            dst.putLong(lay.offsetsPos + 8L * n, sum);
+            deg = null;
+
+            String line;
+            int e = 0;
+            while ((line = r.readLine()) != null) {
+                int k = parse(line, tok);
+                if (k == 0) continue;
+                if (k < 2 || (lay.weighted && k < 3)) throw new IllegalArgumentException("bad line: " + line);
+                int u = (int) tok[0], v = (int) tok[1], w = lay.weighted ? (int) tok[2] : 1;
+                lay.putArc(dst, fill[u]++, v, w, e);
+                if (undirected) lay.putArc(dst, fill[v]++, u, w, e);
+                e++;
+            }
+            if (e != edges) throw new IOException("edge list changed between passes");
+            dst.force();
+        }
+    }
+
+    private static int vertex(long id) {
+        if (id < 0 || id >= Integer.MAX_VALUE) throw new IllegalArgumentException("bad vertex id " + id);
+        return (int) id;
+    }
+
+    /** Parses up to three integers; returns how many were found (0 for blank/comment lines). */
+    private static int parse(String line, long[] tok) {
+        int k = 0, i = 0, len = line.length();
+        while (k < 3) {
+            while (i < len && Character.isWhitespace(line.charAt(i))) i++;
+            if (i == len || (k == 0 && line.charAt(i) == '#')) break;
+            boolean neg = line.charAt(i) == '-';
+            if (neg) i++;
+            long x = 0;
+            int digits = 0;
+            for (char c; i < len && (c = line.charAt(i)) >= '0' && c <= '9'; i++, digits++) x = x * 10 + (c - '0');
+            if (digits == 0) throw new IllegalArgumentException("bad line: " + line);
+            tok[k++] = neg ? -x : x;
+        }
+        if (k == 1) throw new IllegalArgumentException("bad line: " + line);
+        return k;
+    }
+
+    @Override
+    public int vertexCount() { return n; }
+
+    @Override
+    public int arcCount() { return m; }
+
+    @Override
+    public int start(int v) { return (int) data.getLong(offsetsPos + 8L * v); }
+
+    @Override
+    public int end(int v) { return (int) data.getLong(offsetsPos + 8L * (v + 1)); }
+
+    @Override
+    public int target(int slot) { return data.getInt(targetsPos + 4L * slot); }
+
+    @Override
+    public int weight(int slot) { return weightsPos == 0 ? 1 : data.getInt(weightsPos + 4L * slot); }
+
+    @Override
+    public int edgeId(int slot) { return edgeIdsPos == 0 ? slot : data.getInt(edgeIdsPos + 4L * slot); }
+
+    @Override
+    public boolean isWeighted() { return weightsPos != 0; }
+
+    /** Section positions for a graph of the given shape. */
+    private static final class Layout {
+        final int n, m;
+        final boolean weighted;
+        final long offsetsPos, targetsPos, weightsPos, edgeIdsPos, size;
+
+        Layout(int n, int m, boolean weighted, boolean edgeIds) {
+            this.n = n;
+            this.m = m;
+            this.weighted = weighted;
+            offsetsPos = HEADER_BYTES;
+            targetsPos = offsetsPos + 8L * (n + 1);
+            long p = align(targetsPos + 4L * m);
+            weightsPos = weighted ? p : 0;
+            if (weighted) p = align(p + 4L * m);
+            edgeIdsPos = edgeIds ? p : 0;
+            if (edgeIds) p = align(p + 4L * m);
+            size = p;
+        }
+
+        private static long align(long pos) { return (pos + 7) & ~7L; }
+
+        void writeHeader(Segments out) {
+            out.putLong(0, MAGIC);
+            out.putInt(8, VERSION);
+            out.putInt(12, (weighted ? FLAG_WEIGHTED : 0) | (edgeIdsPos != 0 ? FLAG_EDGE_IDS : 0));
+            out.putLong(16, n);
+            out.putLong(24, m);
+            out.putLong(32, offsetsPos);
+            out.putLong(40, targetsPos);
+            out.putLong(48, weightsPos);
+            out.putLong(56, edgeIdsPos);
+        }
+
+        void putArc(Segments out, int slot, int to, int w, int id) {
+            out.putInt(targetsPos + 4L * slot, to);
+            if (weightsPos != 0) out.putInt(weightsPos + 4L * slot, w);
+            if (edgeIdsPos != 0) out.putInt(edgeIdsPos + 4L * slot, id);
+        }
+    }
+
+    /** A file mapped as consecutive 1 GiB little-endian buffers, addressed by long position. */
+    private static final class Segments {
+        private final MappedByteBuffer[] seg;
+
+        private Segments(MappedByteBuffer[] seg) { this.seg = seg; }
+
+        static Segments map(FileChannel ch, FileChannel.MapMode mode, long size) throws IOException {
+            int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] seg = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long pos = (long) i << SEGMENT_SHIFT;
+                seg[i] = ch.map(mode, pos, Math.min(SEGMENT_MASK + 1, size - pos));
+                seg[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new Segments(seg);
+        }
+
+        int getInt(long pos) { return seg[(int) (pos >>> SEGMENT_SHIFT)].getInt((int) (pos & SEGMENT_MASK)); }
+
+        long getLong(long pos) { return seg[(int) (pos >>> SEGMENT_SHIFT)].getLong((int) (pos & SEGMENT_MASK)); }
+
+        void putInt(long pos, int x) { seg[(int) (pos >>> SEGMENT_SHIFT)].putInt((int) (pos & SEGMENT_MASK), x); }
+
+        void putLong(long pos, long x) { seg[(int) (pos >>> SEGMENT_SHIFT)].putLong((int) (pos & SEGMENT_MASK), x); }
+
+        void force() { for (MappedByteBuffer b : seg) b.force(); }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] edges = {{0, 1, 4}, {0, 2, 1}, {2, 1, 2}, {1, 3, 5}};
+        Path file = Files.createTempFile("graph", ".csr");
+        write(CsrGraph.fromEdges(4, edges, true), file);
+        MappedGraph g = open(file);
+        for (int v = 0; v < g.vertexCount(); v++) {
+            System.out.print(v + " -> ");
+            for (int i = g.start(v); i < g.end(v); i++) System.out.print(g.target(i) + "(w=" + g.weight(i) + ") ");
+            System.out.println();
+        }
+
+        // streaming conversion of a larger undirected edge list
+        int n = 300_000, m = 1_000_000;
+        Random rnd = new Random(3);
+        Path text = Files.createTempFile("edges", ".txt");
+        try (BufferedWriter w = Files.newBufferedWriter(text, StandardCharsets.US_ASCII)) {
+            w.write("# random undirected graph\n");
+            for (int i = 0; i < m; i++) w.write(rnd.nextInt(n) + " " + rnd.nextInt(n) + "\n");
+        }
+        long t0 = System.nanoTime();
+        convertEdgeList(text, file, true);
+        long t1 = System.nanoTime();
+        MappedGraph big = open(file);
+        long t2 = System.nanoTime();
+        long degSum = 0;
+        for (int v = 0; v < big.vertexCount(); v++) degSum += big.degree(v);
+        System.out.printf("Converted %d edges in %.0f ms, opened in %.2f ms, %d arcs (degree sum %d)%n",
+                m, (t1 - t0) / 1e6, (t2 - t1) / 1e6, big.arcCount(), degSum);
+        System.out.println("Edge id of first arc of vertex 0: " + big.edgeId(big.start(0)));
+        System.out.println("File size: " + Files.size(file) + " bytes");
+
+        Files.delete(text);
+        Files.delete(file);
+    }
+}
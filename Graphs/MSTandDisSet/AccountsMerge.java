@@ -14,6 +14,7 @@ import java.util.*;
  * to union later accounts with earlier ones. After unions, group emails by representative and build merged results.
  *
  * Complexity: O(totalEmails α(n)) with DSU, plus sorting for output.
+ * For files with millions of records see StreamingAccountsMerge.
  */
 
 public class AccountsMerge {
@@ -0,0 +1,86 @@
+package Graphs.MSTandDisSet;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * DISJOINT SET UNION SHARED BY SEVERAL THREADS (LOCK-FREE)
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM STATEMENT
+ * ---------------------------------------------------------
+ * Same find / union as DisjointSetUnionByRank, but callable from many threads at once
+ * without a lock, e.g. one thread per hash partition of the input (StreamingAccountsMerge).
+ *
+ * ---------------------------------------------------------
+ * 2. HOW
+ * ---------------------------------------------------------
+ * parent[] is an AtomicIntegerArray.
+ * - union(a,b): find both roots; link the LARGER root index under the smaller one with
+ *   compareAndSet(root, root, other). The CAS only succeeds while `root` is still a root, so
+ *   two threads can never both re-parent the same root; if it fails, retry from the new roots.
+ *   Linking by index order means a link always points to a smaller index, so no cycle can form.
+ * - find(x): path halving, parent[x] = parent[parent[x]] via CAS. A failed CAS is harmless
+ *   (someone else already shortened the path), so it is never retried.
+ * The root of every set is its smallest element.
+ *
+ * ---------------------------------------------------------
+ * 3. COMPLEXITY
+ * ---------------------------------------------------------
+ * Amortized close to O(log N) per operation without contention; lock-free under contention.
+ * Space: one int per element.
+ *
+ * =========================================================
+ */
+
+public class ConcurrentDisjointSet {
+
+    private final AtomicIntegerArray parent;
+
+    public ConcurrentDisjointSet(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) parent.set(i, i);
+    }
+
+    public int size() { return parent.length(); }
+
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int gp = parent.get(p);
+            if (gp != p) parent.compareAndSet(x, p, gp);
+            x = gp;
+        }
+    }
+
+    public boolean union(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return false;
+            if (ra < rb) { int t = ra; ra = rb; rb = t; }
+            if (parent.compareAndSet(ra, ra, rb)) return true;
+            a = ra;
+            b = rb;
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        while (true) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return true;
+            if (parent.get(ra) == ra) return false; // ra still a root after seeing rb: not joined yet
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = 1_000_000;
+        ConcurrentDisjointSet dsu = new ConcurrentDisjointSet(n);
+        // 8 threads each join their own stride of neighbours; together they form one chain
+        IntStream.range(0, 8).parallel().forEach(t -> {
+            for (int i = t; i + 1 < n; i += 8) dsu.union(i, i + 1);
+        });
+        System.out.println("Find(" + (n - 1) + "): " + dsu.find(n - 1)); // 0
+        System.out.println("Connected(17, 999999): " + dsu.connected(17, 999_999)); // true
+    }
+}
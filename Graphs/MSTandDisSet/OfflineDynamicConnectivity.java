@@ -0,0 +1,208 @@
+package Graphs.MSTandDisSet;
+
+import java.util.*;
+
+/**
+ * NUMBER OF ISLANDS WITH ADDITIONS AND REMOVALS (offline dynamic connectivity)
+ *
+ * Problem:
+ * A grid starts as water. A sequence of events either turns a cell into land or back into water.
+ * After every event report the number of islands (4-directionally connected land components).
+ * NumberOfIslandsII handles additions only; a plain DSU cannot split a component when a cell disappears.
+ *
+ * Approach (segment tree over time, divide and conquer):
+ * 1. Every land cell is present during a set of half-open time intervals [l, r) of event indices.
+ *    Two adjacent cells are joined exactly during the intersections of their intervals.
+ *    So the input becomes a list of "items" (a cell or a neighbour pair) each alive on one interval.
+ * 2. Insert every item into the O(log Q) segment-tree nodes that exactly cover its interval.
+ * 3. DFS the segment tree. Entering a node applies its items to a RollbackDisjointSet
+ *    (cell: islands++, pair: islands-- if union merged two sets); at a leaf t the island count is the
+ *    answer after event t; leaving the node rolls the DSU back to the snapshot taken on entry.
+ * Because every item is applied only while its whole interval is active, nothing ever has to be deleted.
+ *
+ * Complexity: O((N + Q) log Q log N) time, O(N + Q log Q) space, where N = rows * cols.
+ * Items and segment-tree lists are flat int arrays, so a million-event batch allocates no per-event objects.
+ */
+
+public class OfflineDynamicConnectivity {
+
+    public static final byte ADD = 1, REMOVE = 0;
+
+    // items: a cell (itemB == -1) or a pair of adjacent cells
+    private int[] itemA, itemB;
+    private int items;
+
+    // segment-tree node lists as singly linked lists over flat arrays
+    private int[] head, next, value;
+    private int links;
+
+    private RollbackDisjointSet dsu;
+    private int[] answer;
+    private int size;
+
+    /**
+     * Batch API.
+     *
+     * @param rows grid rows
+     * @param cols grid columns
+     * @param op   ADD or REMOVE per event
+     * @param cell row * cols + col per event
+     * @return island count after each event
+     */
+    public int[] solve(int rows, int cols, byte[] op, int[] cell) {
+        int q = op.length, n = rows * cols;
+        answer = new int[q];
+        if (q == 0) return answer;
+
+        // 1) presence intervals per cell, generated in time order
+        int[] since = new int[n];
+        Arrays.fill(since, -1);
+        int[] ivCell = new int[16], ivL = new int[16], ivR = new int[16];
+        int iv = 0;
+        for (int t = 0; t <= q; t++) {
+            if (t < q && op[t] == ADD) {
+                if (since[cell[t]] == -1) since[cell[t]] = t;
+                continue;
+            }
+            for (int c = t < q ? cell[t] : 0; c < (t < q ? cell[t] + 1 : n); c++) {
+                if (since[c] == -1) continue;
+                if (since[c] < t) {
+                    if (iv == ivCell.length) {
+                        ivCell = Arrays.copyOf(ivCell, iv * 2);
+                        ivL = Arrays.copyOf(ivL, iv * 2);
+                        ivR = Arrays.copyOf(ivR, iv * 2);
+                    }
+                    ivCell[iv] = c; ivL[iv] = since[c]; ivR[iv] = t; iv++;
+                }
+                since[c] = -1;
+            }
+        }
+
+        // group intervals by cell (stable counting sort keeps time order inside a cell)
+        int[] first = new int[n + 1];
+        for (int i = 0; i < iv; i++) first[ivCell[i] + 1]++;
+        for (int c = 0; c < n; c++) first[c + 1] += first[c];
+        int[] fill = Arrays.copyOf(first, n);
+        int[] byL = new int[iv], byR = new int[iv];
+        for (int i = 0; i < iv; i++) {
+            int k = fill[ivCell[i]]++;
+            byL[k] = ivL[i];
+            byR[k] = ivR[i];
+        }
+
+        // 2) build the segment tree over [0, q)
+        size = 1;
+        while (size < q) size <<= 1;
+        head = new int[2 * size];
+        Arrays.fill(head, -1);
+        next = new int[Math.max(16, iv * 4)];
+        value = new int[next.length];
+        itemA = new int[Math.max(16, iv * 3)];
+        itemB = new int[itemA.length];
+        links = items = 0;
+
+        for (int c = 0; c < n; c++) {
+            for (int k = first[c]; k < first[c + 1]; k++) addItem(c, -1, byL[k], byR[k]);
+            int col = c % cols;
+            if (col + 1 < cols) pairIntervals(c, c + 1, first, byL, byR);
+            if (c + cols < n) pairIntervals(c, c + cols, first, byL, byR);
+        }
+
+        // 3) DFS over time
+        dsu = new RollbackDisjointSet(n);
+        dfs(1, 0, size, 0, q);
+        int[] res = answer;
+        answer = null; dsu = null; head = next = value = itemA = itemB = null;
+        return res;
+    }
+
+    /** Convenience API in the style of NumberOfIslandsII: events are {op, row, col}. */
+    public List<Integer> numIslands(int m, int n, int[][] events) {
+        byte[] op = new byte[events.length];
+        int[] cell = new int[events.length];
+        for (int i = 0; i < events.length; i++) {
+            op[i] = (byte) events[i][0];
+            cell[i] = events[i][1] * n + events[i][2];
+        }
+        List<Integer> res = new ArrayList<>();
+        for (int x : solve(m, n, op, cell)) res.add(x);
+        return res;
+    }
+
+    // two-pointer intersection of the interval lists of cells a and b
+    private void pairIntervals(int a, int b, int[] first, int[] byL, int[] byR) {
+        int i = first[a], j = first[b];
+        while (i < first[a + 1] && j < first[b + 1]) {
+            int l = Math.max(byL[i], byL[j]), r = Math.min(byR[i], byR[j]);
+            if (l < r) addItem(a, b, l, r);
+            if (byR[i] < byR[j]) i++; else j++;
+        }
+    }
+
+    private void addItem(int a, int b, int l, int r) {
+        if (items == itemA.length) {
+            itemA = Arrays.copyOf(itemA, items * 2);
+            itemB = Arrays.copyOf(itemB, items * 2);
+        }
+        itemA[items] = a;
+        itemB[items] = b;
+        // standard iterative cover of [l, r) by segment-tree nodes
+        for (int lo = l + size, hi = r + size; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) link(lo++, items);
+            if ((hi & 1) == 1) link(--hi, items);
+        }
+        items++;
+    }
+
+    private void link(int node, int item) {
+        if (links == next.length) {
+            next = Arrays.copyOf(next, links * 2);
+            value = Arrays.copyOf(value, links * 2);
+        }
+        value[links] = item;
+        next[links] = head[node];
+        head[node] = links++;
+    }
+
+    private void dfs(int node, int lo, int hi, int islands, int q) {
+        if (lo >= q) return;
+        int snap = dsu.snapshot();
+        for (int k = head[node]; k != -1; k = next[k]) {
+            int it = value[k];
+            if (itemB[it] < 0) islands++;
+            else if (dsu.union(itemA[it], itemB[it])) islands--;
+        }
+        if (hi - lo == 1) {
+            answer[lo] = islands;
+        } else {
+            int mid = (lo + hi) >>> 1;
+            dfs(2 * node, lo, mid, islands, q);
+            dfs(2 * node + 1, mid, hi, islands, q);
+        }
+        dsu.rollback(snap);
+    }
+
+    public static void main(String[] args) {
+        OfflineDynamicConnectivity sol = new OfflineDynamicConnectivity();
+        int[][] events = {
+            {ADD, 0, 0}, {ADD, 0, 1}, {ADD, 1, 2}, {ADD, 2, 1}, // as in NumberOfIslandsII: 1,1,2,3
+            {ADD, 1, 1},                                        // joins everything: 1
+            {REMOVE, 1, 1},                                     // splits again: 3
+            {REMOVE, 0, 0}, {REMOVE, 0, 1}                      // 3, then 2
+        };
+        System.out.println(sol.numIslands(3, 3, events)); // [1, 1, 2, 3, 1, 3, 3, 2]
+
+        // batch: a million random toggles on a 1000x1000 grid
+        int rows = 1000, cols = 1000, q = 1_000_000;
+        Random rnd = new Random(42);
+        byte[] op = new byte[q];
+        int[] cell = new int[q];
+        for (int i = 0; i < q; i++) {
+            op[i] = rnd.nextInt(3) == 0 ? REMOVE : ADD;
+            cell[i] = rnd.nextInt(rows * cols);
+        }
+        long t0 = System.nanoTime();
+        int[] res = sol.solve(rows, cols, op, cell);
+        System.out.printf("%d events in %.0f ms, islands at the end: %d%n", q, (System.nanoTime() - t0) / 1e6, res[q - 1]);
+    }
+}
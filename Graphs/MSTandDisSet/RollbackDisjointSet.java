@@ -0,0 +1,90 @@
+package Graphs.MSTandDisSet;
+
+import java.util.*;
+
+/**
+ * DISJOINT SET UNION WITH ROLLBACK (UNION BY RANK, NO PATH COMPRESSION)
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM STATEMENT
+ * ---------------------------------------------------------
+ * Same find / union as DisjointSetUnionByRank, plus the ability to undo the most recent unions:
+ * snapshot() remembers the current state, rollback(s) restores it.
+ * Needed by offline algorithms that explore a time line depth-first (see OfflineDynamicConnectivity).
+ *
+ * ---------------------------------------------------------
+ * 2. WHY NO PATH COMPRESSION?
+ * ---------------------------------------------------------
+ * Path compression rewrites parent pointers all along the path during find, so undoing it would need
+ * a log entry per rewritten pointer. Without it, a union changes exactly one parent pointer and
+ * at most one rank, so each union is undone from a single int on the history stack.
+ * Union by rank alone already keeps every tree at height O(log N).
+ *
+ * ---------------------------------------------------------
+ * 3. OPERATIONS
+ * ---------------------------------------------------------
+ * - find(x): walk to the root, O(log N)
+ * - union(x,y): attach lower rank root under higher rank root; push the attached root
+ *   (negated and offset by one if the other root's rank was incremented)
+ * - rollback(s): pop history entries until its size is s again
+ *
+ * ---------------------------------------------------------
+ * 4. COMPLEXITY
+ * ---------------------------------------------------------
+ * Time: O(log N) per find / union, O(1) per undone union. Space: O(N + number of live unions)
+ *
+ * =========================================================
+ */
+
+public class RollbackDisjointSet {
+
+    private final int[] parent, rank;
+    private int[] history = new int[16];
+    private int top;
+
+    public RollbackDisjointSet(int n) {
+        parent = new int[n]; rank = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) x = parent[x];
+        return x;
+    }
+
+    public boolean union(int a, int b) {
+        int ra = find(a), rb = find(b);
+        if (ra == rb) return false;
+        if (rank[ra] < rank[rb]) { int t = ra; ra = rb; rb = t; }
+        parent[rb] = ra;
+        boolean bumped = rank[ra] == rank[rb];
+        if (bumped) rank[ra]++;
+        if (top == history.length) history = Arrays.copyOf(history, top * 2);
+        history[top++] = bumped ? -(rb + 1) : rb;
+        return true;
+    }
+
+    /** Number of unions currently applied; pass to rollback to return to this state. */
+    public int snapshot() { return top; }
+
+    public void rollback(int snapshot) {
+        while (top > snapshot) {
+            int h = history[--top];
+            int child = h < 0 ? -h - 1 : h;
+            int root = parent[child];
+            if (h < 0) rank[root]--;
+            parent[child] = child;
+        }
+    }
+
+    public static void main(String[] args) {
+        RollbackDisjointSet dsu = new RollbackDisjointSet(5);
+        dsu.union(0, 1);
+        int s = dsu.snapshot();
+        dsu.union(1, 2); dsu.union(3, 4);
+        System.out.println("0~2 before rollback: " + (dsu.find(0) == dsu.find(2))); // true
+        dsu.rollback(s);
+        System.out.println("0~2 after rollback: " + (dsu.find(0) == dsu.find(2)));  // false
+        System.out.println("0~1 after rollback: " + (dsu.find(0) == dsu.find(1)));  // true
+    }
+}
@@ -0,0 +1,459 @@
+package Graphs.MSTandDisSet;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * ACCOUNTS MERGE FOR FILES WITH MILLIONS OF RECORDS (streaming, sharded)
+ *
+ * Problem:
+ * Same merge as AccountsMerge (accounts sharing an email belong to one person), but the input is a file
+ * with one record per line, "name,email1,email2,...", far too large for List<List<String>>, a HashMap
+ * of String keys and a TreeSet per group.
+ *
+ * Approach:
+ * - Account ids are line numbers; the accounts are joined in a lock-free ConcurrentDisjointSet.
+ * - The calling thread reads the input ONCE. It interns each name and hashes each email once (64 bits), then
+ *   routes (account, hash, UTF-8 bytes) in batches into a bounded queue per partition: `shards` partitions
+ *   chosen by the hash. Each partition has its own worker thread, so partitions share nothing except the DSU.
+ * - Per partition, an open-addressing dictionary maps hash -> int id. Keys are the 64-bit hashes; the UTF-8
+ *   bytes of each distinct email are stored once in a byte arena and compared on a hash hit, so a hash
+ *   collision can never merge two different emails. The first account that used an email is its owner;
+ *   a later account with the same email is linked to the owner. The number of accounts is only known at
+ *   the end of the input, so the links are kept per partition and unioned in the DSU once the last batch
+ *   (which carries the DSU) arrives. Names use the same kind of dictionary.
+ * - Output: every email is bucketed by the DSU root of its owner with a counting sort over account ids;
+ *   only one group at a time is decoded back into Strings and sorted.
+ *   Groups come out in order of their first account.
+ *
+ * Complexity: one O(file size) read, O(totalEmails) dictionary and DSU work split over S threads, plus
+ * sorting inside each group.
+ * Memory: ~ one int per account, per distinct email its bytes + ~20 bytes of table/arena overhead, two ints
+ * per repeated email occurrence, and at most a few batches in flight per partition.
+ * One partition's arena holds at most 2 GiB of email bytes; use more shards for larger inputs.
+ */
+
+public class StreamingAccountsMerge {
+
+    /** Receives each merged account: the name and its distinct emails in sorted order. */
+    public interface GroupSink {
+        void accept(String name, List<String> emails) throws IOException;
+    }
+
+    /** Input read once, record by record. */
+    private interface Source {
+        void scan(RecordVisitor visitor) throws IOException;
+    }
+
+    private interface RecordVisitor {
+        void visit(int account, Record record) throws IOException;
+    }
+
+    /** One input record: field 0 is the name, the rest are emails. */
+    private interface Record {
+        int fields();
+
+        String field(int i);
+
+        /** hash(field(i)) without materializing the field. */
+        long hash(int i);
+    }
+
+    /** A CSV line; fields are located once and only turned into Strings on demand. */
+    private static final class LineRecord implements Record {
+        String line;
+        int[] cut = new int[8];   // field i spans cut[i] + 1 .. cut[i + 1] - 1
+        int fields;
+
+        void reset(String line) {
+            this.line = line;
+            fields = 0;
+            cut[0] = -1;
+            for (int i = 0; i <= line.length(); i++) {
+                if (i == line.length() || line.charAt(i) == ',') {
+                    if (fields + 2 > cut.length) cut = Arrays.copyOf(cut, cut.length * 2);
+                    cut[++fields] = i;
+                }
+            }
+        }
+
+        @Override
+        public int fields() { return fields; }
+
+        @Override
+        public String field(int i) { return line.substring(cut[i] + 1, cut[i + 1]); }
+
+        @Override
+        public long hash(int i) { return StreamingAccountsMerge.hash(line, cut[i] + 1, cut[i + 1]); }
+    }
+
+    private static final class ListRecord implements Record {
+        List<String> list;
+
+        @Override
+        public int fields() { return list.size(); }
+
+        @Override
+        public String field(int i) { return list.get(i); }
+
+        @Override
+        public long hash(int i) { String f = list.get(i); return StreamingAccountsMerge.hash(f, 0, f.length()); }
+    }
+
+    private final int shards;
+
+    public StreamingAccountsMerge(int shards) {
+        if (shards < 1) throw new IllegalArgumentException("shards must be >= 1");
+        this.shards = shards;
+    }
+
+    /**
+     * Merges the records of a file and writes one line "name,email1,email2,..." per merged account.
+     *
+     * @return number of merged accounts written
+     */
+    public int merge(Path in, Writer out) throws IOException {
+        return merge(in, (name, emails) -> {
+            out.write(name);
+            for (String e : emails) { out.write(','); out.write(e); }
+            out.write('\n');
+        });
+    }
+
+    /**
+     * Merges the records of a file ("name,email1,..." per line, blank lines ignored) into the sink.
+     */
+    public int merge(Path in, GroupSink sink) throws IOException {
+        return run(visitor -> {
+            try (BufferedReader r = Files.newBufferedReader(in, StandardCharsets.UTF_8)) {
+                LineRecord rec = new LineRecord();
+                String line;
+                int account = 0;
+                while ((line = r.readLine()) != null) {
+                    if (line.isEmpty()) continue;
+                    rec.reset(line);
+                    visitor.visit(account++, rec);
+                }
+            }
+        }, sink);
+    }
+
+    /**
+     * In-memory form with the AccountsMerge.accountsMerge signature.
+     */
+    public List<List<String>> accountsMerge(List<List<String>> accounts) {
+        List<List<String>> res = new ArrayList<>();
+        try {
+            run(visitor -> {
+                ListRecord rec = new ListRecord();
+                for (int i = 0; i < accounts.size(); i++) {
+                    rec.list = accounts.get(i);
+                    visitor.visit(i, rec);
+                }
+            }, (name, emails) -> {
+                List<String> list = new ArrayList<>(emails.size() + 1);
+                list.add(name);
+                list.addAll(emails);
+                res.add(list);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return res;
+    }
+
+    private int run(Source source, GroupSink sink) throws IOException {
+        // single pass: this thread reads and routes, one worker per partition interns its emails
+        Partition[] parts = new Partition[shards];
+        List<Future<?>> workers = new ArrayList<>(shards);
+        ExecutorService pool = Executors.newFixedThreadPool(shards);
+        Router router = new Router(parts, workers);
+        ConcurrentDisjointSet dsu;
+        try {
+            for (int s = 0; s < shards; s++) {
+                parts[s] = new Partition();
+                workers.add(pool.submit(parts[s]));
+            }
+            source.scan(router);
+            dsu = new ConcurrentDisjointSet(router.accounts);
+            router.finish(dsu);
+            for (Future<?> f : workers) await(f);
+        } finally {
+            pool.shutdownNow();
+        }
+        int n = router.accounts;
+        ByteDictionary[] dict = new ByteDictionary[shards];
+        for (int s = 0; s < shards; s++) dict[s] = parts[s].dict;
+
+        // after the pass: counting sort of all emails (global ref = shard base + local id) by DSU root
+        int[] base = new int[shards + 1];
+        for (int s = 0; s < shards; s++) base[s + 1] = Math.addExact(base[s], dict[s].size);
+        int[] start = new int[n + 1];
+        int[] rootOf = new int[base[shards]];
+        for (int s = 0; s < shards; s++) {
+            for (int id = 0; id < dict[s].size; id++) {
+                int root = dsu.find(dict[s].value[id]);
+                rootOf[base[s] + id] = root;
+                start[root + 1]++;
+            }
+        }
+        for (int a = 0; a < n; a++) start[a + 1] += start[a];
+        int[] fill = Arrays.copyOf(start, n);
+        int[] refs = new int[base[shards]];
+        for (int g = 0; g < rootOf.length; g++) refs[fill[rootOf[g]]++] = g;
+        rootOf = null;
+
+        int groups = 0;
+        List<String> emails = new ArrayList<>();
+        for (int root = 0; root < n; root++) {
+            if (start[root] == start[root + 1]) continue;
+            emails.clear();
+            for (int k = start[root]; k < start[root + 1]; k++) {
+                int g = refs[k], s = 0;
+                while (g >= base[s + 1]) s++;
+                emails.add(dict[s].decode(g - base[s]));
+            }
+            Collections.sort(emails);
+            sink.accept(router.names.decode(router.nameOf[root]), emails);
+            groups++;
+        }
+        return groups;
+    }
+
+    /** Waits for a worker; rethrows its failure. */
+    private static void await(Future<?> f) throws IOException {
+        try {
+            f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while merging");
+        } catch (ExecutionException e) {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException) c;
+            if (c instanceof RuntimeException) throw (RuntimeException) c;
+            throw new IOException(c);
+        }
+    }
+
+    /** Emails of one partition in reading order, as (account, hash, UTF-8 bytes). */
+    private static final class Batch {
+        static final int CAPACITY = 4096;
+        final int[] account = new int[CAPACITY];
+        final long[] hash = new long[CAPACITY];
+        final byte[][] bytes = new byte[CAPACITY][];
+        int size;
+        ConcurrentDisjointSet dsu;          // set on the last batch of a partition only
+    }
+
+    /** The single reading pass: interns names and routes every email to its partition. */
+    private static final class Router implements RecordVisitor {
+        final ByteDictionary names = new ByteDictionary();
+        int[] nameOf = new int[1024];
+        int accounts;
+        private final Partition[] parts;
+        private final List<Future<?>> workers;
+        private final Batch[] open;
+
+        Router(Partition[] parts, List<Future<?>> workers) {
+            this.parts = parts;
+            this.workers = workers;
+            this.open = new Batch[parts.length];
+            for (int s = 0; s < open.length; s++) open[s] = new Batch();
+        }
+
+        @Override
+        public void visit(int account, Record record) throws IOException {
+            if (account == nameOf.length) nameOf = Arrays.copyOf(nameOf, account * 2);
+            int name = names.valueOrAdd(record.hash(0), record.field(0).getBytes(StandardCharsets.UTF_8), names.size);
+            nameOf[account] = name >= 0 ? name : names.size - 1;
+            accounts = account + 1;
+            for (int j = 1; j < record.fields(); j++) {
+                long h = record.hash(j);
+                int shard = (int) Long.remainderUnsigned(h >>> 32, parts.length);
+                Batch b = open[shard];
+                b.account[b.size] = account;
+                b.hash[b.size] = h;
+                b.bytes[b.size] = record.field(j).getBytes(StandardCharsets.UTF_8);
+                if (++b.size == Batch.CAPACITY) {
+                    send(shard, b);
+                    open[shard] = new Batch();
+                }
+            }
+        }
+
+        /** Sends every partition its last batch, which carries the DSU. */
+        void finish(ConcurrentDisjointSet dsu) throws IOException {
+            for (int s = 0; s < open.length; s++) {
+                open[s].dsu = dsu;
+                send(s, open[s]);
+            }
+        }
+
+        // blocks while the partition is behind; a failed worker surfaces here instead of a hang
+        private void send(int shard, Batch b) throws IOException {
+            try {
+                while (!parts[shard].queue.offer(b, 50, TimeUnit.MILLISECONDS)) {
+                    if (workers.get(shard).isDone()) {
+                        await(workers.get(shard));
+                        throw new IllegalStateException("partition " + shard + " stopped early");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while merging");
+            }
+        }
+    }
+
+    /** One hash partition: interns its emails, links repeat users to the owner, then unions the links. */
+    private static final class Partition implements Callable<Void> {
+        final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(4);
+        final ByteDictionary dict = new ByteDictionary();
+        private int[] links = new int[256];  // (account, owner) pairs
+        private int linkCount;
+
+        @Override
+        public Void call() throws InterruptedException {
+            while (true) {
+                Batch b = queue.take();
+                for (int i = 0; i < b.size; i++) {
+                    int account = b.account[i];
+                    int owner = dict.valueOrAdd(b.hash[i], b.bytes[i], account);
+                    if (owner >= 0 && owner != account) {
+                        if (2 * linkCount + 2 > links.length) links = Arrays.copyOf(links, links.length * 2);
+                        links[2 * linkCount] = account;
+                        links[2 * linkCount + 1] = owner;
+                        linkCount++;
+                    }
+                }
+                if (b.dsu != null) {
+                    for (int k = 0; k < linkCount; k++) b.dsu.union(links[2 * k], links[2 * k + 1]);
+                    links = null;
+                    return null;
+                }
+            }
+        }
+    }
+
+    /** FNV-1a over the chars, then a 64-bit finalizer so both halves are well mixed. */
+    static long hash(String s, int from, int to) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Open-addressing map from a string (hash + UTF-8 bytes) to a dense id, with one int value per id:
+     * the owner account for emails, the id itself for names.
+     */
+    private static final class ByteDictionary {
+        long[] keys = new long[1 << 10];
+        int[] slotId = new int[1 << 10];   // -1 = empty
+        int[] value = new int[256];
+        int[] offset = new int[257];       // arena range of id i: offset[i] .. offset[i + 1]
+        byte[] arena = new byte[1 << 12];
+        int size;
+
+        ByteDictionary() {
+            Arrays.fill(slotId, -1);
+        }
+
+        /** Returns the value of a known string, else records it with `v` and returns -1. */
+        int valueOrAdd(long h, byte[] bytes, int v) {
+            int mask = keys.length - 1;
+            int slot = (int) h & mask;
+            for (int id; (id = slotId[slot]) >= 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == h && sameBytes(id, bytes)) return value[id];
+            }
+            if (size == value.length) {
+                value = Arrays.copyOf(value, size * 2);
+                offset = Arrays.copyOf(offset, size * 2 + 1);
+            }
+            int from = offset[size];
+            if (from + bytes.length > arena.length) {
+                long grown = Math.max((long) arena.length * 2, (long) from + bytes.length);
+                if (grown > Integer.MAX_VALUE - 8) throw new IllegalStateException("partition arena full; use more shards");
+                arena = Arrays.copyOf(arena, (int) grown);
+            }
+            System.arraycopy(bytes, 0, arena, from, bytes.length);
+            offset[size + 1] = from + bytes.length;
+            value[size] = v;
+            keys[slot] = h;
+            slotId[slot] = size++;
+            if (2 * size > keys.length) rehash();
+            return -1;
+        }
+
+        private boolean sameBytes(int id, byte[] bytes) {
+            int from = offset[id];
+            return offset[id + 1] - from == bytes.length
+                    && Arrays.equals(arena, from, from + bytes.length, bytes, 0, bytes.length);
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldIds = slotId;
+            keys = new long[oldKeys.length * 2];
+            slotId = new int[oldKeys.length * 2];
+            Arrays.fill(slotId, -1);
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldIds[i] < 0) continue;
+                int slot = (int) oldKeys[i] & mask;
+                while (slotId[slot] >= 0) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                slotId[slot] = oldIds[i];
+            }
+        }
+
+        String decode(int id) {
+            return new String(arena, offset[id], offset[id + 1] - offset[id], StandardCharsets.UTF_8);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<List<String>> accounts = new ArrayList<>();
+        accounts.add(Arrays.asList("John","johnsmith@mail.com","john_newyork@mail.com"));
+        accounts.add(Arrays.asList("John","johnsmith@mail.com","john00@mail.com"));
+        accounts.add(Arrays.asList("Mary","mary@mail.com"));
+        accounts.add(Arrays.asList("John","johnnybravo@mail.com"));
+        StreamingAccountsMerge merger = new StreamingAccountsMerge(4);
+        System.out.println(merger.accountsMerge(accounts));
+
+        // synthetic file: 300k records over 200k people, each record with 1-3 of the person's 4 emails
+        int records = 300_000, people = 200_000;
+        Random rnd = new Random(11);
+        Path in = Files.createTempFile("accounts", ".csv");
+        List<List<String>> same = new ArrayList<>(records);
+        try (BufferedWriter w = Files.newBufferedWriter(in, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < records; i++) {
+                int p = rnd.nextInt(people);
+                List<String> rec = new ArrayList<>();
+                rec.add("user" + p);
+                for (int k = 1 + rnd.nextInt(3); k > 0; k--) rec.add("u" + p + "." + rnd.nextInt(4) + "@mail.com");
+                same.add(rec);
+                w.write(String.join(",", rec));
+                w.write('\n');
+            }
+        }
+
+        int shards = Runtime.getRuntime().availableProcessors();
+        long t0 = System.nanoTime();
+        int streamed;
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))) {
+            streamed = new StreamingAccountsMerge(shards).merge(in, out);
+        }
+        long t1 = System.nanoTime();
+        int classic = new AccountsMerge().accountsMerge(same).size();
+        System.out.printf("Streaming (%d shards): %d groups in %.0f ms; AccountsMerge: %d groups%n",
+                shards, streamed, (t1 - t0) / 1e6, classic);
+        Files.delete(in);
+    }
+}
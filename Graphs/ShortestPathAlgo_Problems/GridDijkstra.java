@@ -0,0 +1,262 @@
+package Graphs.ShortestPathAlgo_Problems;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * GRID DIJKSTRA WITH QUEUE SELECTION (0-1 BFS / DIAL / HEAP)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM STATEMENT
+ * ---------------------------------------------------------
+ * PathWithMinimumEffort, SwimInRisingWater and BinaryMazeShortestPath are all
+ * single-source searches on a 4-connected grid. They use PriorityQueue<Node>
+ * (an object per push, O(log V) per operation) although their keys are small
+ * non-negative integers: height differences, elevations or unit steps.
+ *
+ * ---------------------------------------------------------
+ * 2. ONE FRONT END, THREE QUEUES
+ * ---------------------------------------------------------
+ * Cells are int indices r * cols + c; the caller supplies
+ *   cost(from, to)  → weight of the move (negative = blocked)
+ *   maxWeight       → upper bound of every cost
+ *   mode            → SUM (classic path length) or MAX (minimax / bottleneck path)
+ *
+ * The queue is picked from the weight range:
+ *   SUM and maxWeight <= 1     → 0-1 BFS with IntDeque      O(V + E)
+ *   maxWeight < DIAL_LIMIT     → Dial with IntBucketQueue   O(E + V * C) worst, ~O(E + D)
+ *   otherwise                  → binary heap of packed longs O(E log V)
+ * In MAX mode a key never exceeds maxWeight, so Dial with span maxWeight + 1
+ * is always valid.
+ *
+ * ---------------------------------------------------------
+ * 3. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * See table above. Space: int[V] distances + queue, no per-push objects.
+ *
+ * =========================================================
+ */
+
+public class GridDijkstra {
+
+    public enum Mode { SUM, MAX }
+
+    /** Weight of moving between two adjacent cells; negative means the move is not allowed. */
+    public interface EdgeCost {
+        int cost(int from, int to);
+    }
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    static final int DIAL_LIMIT = 1 << 20;
+
+    /**
+     * Distances from src to every cell (or until target is settled, if target >= 0).
+     *
+     * @param srcKey    distance of the source itself (0 for SUM; its own height for swim-style MAX)
+     * @param maxWeight upper bound of every value returned by cost, and of srcKey in MAX mode
+     * @return dist[] with UNREACHABLE for cells not settled
+     */
+    public int[] solve(int rows, int cols, int src, int srcKey, int target, EdgeCost cost, int maxWeight, Mode mode) {
+        int size = rows * cols;
+        int[] dist = new int[size];
+        Arrays.fill(dist, UNREACHABLE);
+        dist[src] = srcKey;
+        if (mode == Mode.SUM && maxWeight <= 1) zeroOneBfs(rows, cols, src, target, cost, dist);
+        else if (maxWeight < DIAL_LIMIT) dial(rows, cols, src, target, cost, maxWeight, mode, dist);
+        else heap(rows, cols, src, target, cost, mode, dist);
+        return dist;
+    }
+
+    private void zeroOneBfs(int rows, int cols, int src, int target, EdgeCost cost, int[] dist) {
+        int size = rows * cols;
+        IntDeque dq = new IntDeque(64);
+        boolean[] done = new boolean[size];
+        dq.addFirst(src);
+        while (!dq.isEmpty()) {
+            int u = dq.pollFirst();
+            if (done[u]) continue;
+            done[u] = true;
+            if (u == target) return;
+            int c = u % cols;
+            for (int k = 0; k < 4; k++) {
+                int v = neighbour(u, c, k, cols, size);
+                if (v < 0 || done[v]) continue;
+                int w = cost.cost(u, v);
+                if (w < 0 || dist[u] + w >= dist[v]) continue;
+                dist[v] = dist[u] + w;
+                if (w == 0) dq.addFirst(v); else dq.addLast(v);
+            }
+        }
+    }
+
+    private void dial(int rows, int cols, int src, int target, EdgeCost cost, int maxWeight, Mode mode, int[] dist) {
+        int size = rows * cols;
+        IntBucketQueue pq = new IntBucketQueue(maxWeight + 1);
+        if (mode == Mode.MAX) {
+            // keys are absolute values in [0, maxWeight]; start the ring at 0
+            pq.push(src, dist[src]);
+        } else {
+            pq.push(src, 0);
+        }
+        int offset = mode == Mode.MAX ? 0 : dist[src];   // SUM keys are stored relative to srcKey
+        while (!pq.isEmpty()) {
+            int u = pq.pop();
+            int du = pq.lastKey() + offset;
+            if (du != dist[u]) continue;                  // stale entry
+            if (u == target) return;
+            int c = u % cols;
+            for (int k = 0; k < 4; k++) {
+                int v = neighbour(u, c, k, cols, size);
+                if (v < 0) continue;
+                int w = cost.cost(u, v);
+                if (w < 0) continue;
+                int nd = mode == Mode.SUM ? du + w : Math.max(du, w);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    pq.push(v, nd - offset);
+                }
+            }
+        }
+    }
+
+    private void heap(int rows, int cols, int src, int target, EdgeCost cost, Mode mode, int[] dist) {
+        int size = rows * cols;
+        LongHeap pq = new LongHeap(64);
+        pq.push(((long) dist[src] << 32) | src);
+        while (!pq.isEmpty()) {
+            long top = pq.pop();
+            int u = (int) top, du = (int) (top >>> 32);
+            if (du != dist[u]) continue;
+            if (u == target) return;
+            int c = u % cols;
+            for (int k = 0; k < 4; k++) {
+                int v = neighbour(u, c, k, cols, size);
+                if (v < 0) continue;
+                int w = cost.cost(u, v);
+                if (w < 0) continue;
+                long nd = mode == Mode.SUM ? (long) du + w : Math.max(du, w);
+                if (nd < dist[v]) {
+                    dist[v] = (int) nd;
+                    pq.push((nd << 32) | v);
+                }
+            }
+        }
+    }
+
+    // k-th neighbour of u (down, up, right, left) or -1 outside the grid; c = u % cols
+    private static int neighbour(int u, int c, int k, int cols, int size) {
+        switch (k) {
+            case 0: return u + cols < size ? u + cols : -1;
+            case 1: return u >= cols ? u - cols : -1;
+            case 2: return c + 1 < cols ? u + 1 : -1;
+            default: return c > 0 ? u - 1 : -1;
+        }
+    }
+
+    /** Minimal binary min-heap of longs; (key << 32 | cell) orders by key first. */
+    private static final class LongHeap {
+        private long[] a;
+        private int n;
+
+        LongHeap(int cap) { a = new long[cap]; }
+
+        boolean isEmpty() { return n == 0; }
+
+        void push(long x) {
+            if (n == a.length) a = Arrays.copyOf(a, n * 2);
+            int i = n++;
+            while (i > 0 && a[(i - 1) >> 1] > x) { a[i] = a[(i - 1) >> 1]; i = (i - 1) >> 1; }
+            a[i] = x;
+        }
+
+        long pop() {
+            long top = a[0], x = a[--n];
+            int i = 0;
+            while (true) {
+                int l = 2 * i + 1;
+                if (l >= n) break;
+                if (l + 1 < n && a[l + 1] < a[l]) l++;
+                if (a[l] >= x) break;
+                a[i] = a[l];
+                i = l;
+            }
+            a[i] = x;
+            return top;
+        }
+    }
+
+    /* =====================================================
+     * PORTS OF THE THREE GRID PROBLEMS
+     * =====================================================
+     */
+
+    /** PathWithMinimumEffort.minimumEffort: minimax of |height difference|. */
+    public int minimumEffort(int[][] heights) {
+        int rows = heights.length, cols = heights[0].length;
+        int[] h = flatten(heights);
+        int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+        for (int x : h) { lo = Math.min(lo, x); hi = Math.max(hi, x); }
+        int last = rows * cols - 1;
+        int[] dist = solve(rows, cols, 0, 0, last, (u, v) -> Math.abs(h[u] - h[v]), hi - lo, Mode.MAX);
+        return dist[last];
+    }
+
+    /** SwimInRisingWater.swimInWater: minimax of the elevations along the path, including the start. */
+    public int swimInWater(int[][] grid) {
+        int n = grid.length;
+        int[] h = flatten(grid);
+        int hi = 0;
+        for (int x : h) hi = Math.max(hi, x);
+        int last = n * n - 1;
+        int[] dist = solve(n, n, 0, h[0], last, (u, v) -> h[v], hi, Mode.MAX);
+        return dist[last];
+    }
+
+    /** BinaryMazeShortestPath.shortestPath: unit steps through 0 cells, 1 cells are walls. */
+    public int shortestPath(int[][] grid, int[] start, int[] end) {
+        int rows = grid.length, cols = grid[0].length;
+        int[] g = flatten(grid);
+        int target = end[0] * cols + end[1];
+        int[] dist = solve(rows, cols, start[0] * cols + start[1], 0, target, (u, v) -> g[v] == 1 ? -1 : 1, 1, Mode.SUM);
+        return dist[target] == UNREACHABLE ? -1 : dist[target];
+    }
+
+    private static int[] flatten(int[][] grid) {
+        int cols = grid[0].length;
+        int[] flat = new int[grid.length * cols];
+        for (int r = 0; r < grid.length; r++) System.arraycopy(grid[r], 0, flat, r * cols, cols);
+        return flat;
+    }
+
+    public static void main(String[] args) {
+        GridDijkstra solver = new GridDijkstra();
+
+        System.out.println("Minimum effort: " + solver.minimumEffort(new int[][]{{1,2,2},{3,8,2},{5,3,5}})); // 2
+        System.out.println("Swim time: " + solver.swimInWater(new int[][]{{0,2},{1,3}}));                  // 3
+        int[][] maze = {
+                {0, 0, 1, 0},
+                {1, 0, 1, 0},
+                {0, 0, 0, 0},
+                {0, 1, 1, 0}
+        };
+        System.out.println("Maze steps: " + solver.shortestPath(maze, new int[]{0, 0}, new int[]{3, 3}));  // 6
+
+        // large weight range falls back to the heap
+        int[] huge = {0, 5_000_000, 1, 2};
+        int[] d = solver.solve(2, 2, 0, 0, -1, (u, v) -> huge[v], 5_000_000, Mode.SUM);
+        System.out.println("Heap fallback distances: " + Arrays.toString(d)); // [0, 5000000, 1, 3]
+
+        // 2000x2000 effort grid: Dial vs the PriorityQueue<Node> version
+        int n = 2000;
+        Random rnd = new Random(3);
+        int[][] heights = new int[n][n];
+        for (int[] row : heights) for (int j = 0; j < n; j++) row[j] = rnd.nextInt(1000);
+        long t0 = System.nanoTime();
+        int a = solver.minimumEffort(heights);
+        long t1 = System.nanoTime();
+        int b = new PathWithMinimumEffort().minimumEffort(heights);
+        long t2 = System.nanoTime();
+        System.out.printf("Effort %d (Dial, %.0f ms) vs %d (PriorityQueue, %.0f ms)%n", a, (t1 - t0) / 1e6, b, (t2 - t1) / 1e6);
+    }
+}
@@ -0,0 +1,113 @@
+package Graphs.ShortestPathAlgo_Problems;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * DIAL'S BUCKET QUEUE (monotone priority queue for small int keys)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. IDEA
+ * ---------------------------------------------------------
+ * In Dijkstra every key pushed is >= the key last popped (monotone), and with
+ * edge weights in [0, C] it is also < lastPopped + C + 1. So only C + 1
+ * different keys can be live at once: keep one bucket per key in a ring of
+ * span = C + 1 buckets, indexed by key % span.
+ *
+ * - push(item, key): O(1), prepend item to bucket key % span
+ * - pop(): scan forward from the current key to the first non-empty bucket
+ *          (at most span steps, amortized O(1) when keys move steadily)
+ *
+ * ---------------------------------------------------------
+ * 2. STORAGE
+ * ---------------------------------------------------------
+ * Buckets are intrusive singly linked lists over pooled int arrays
+ * (entryItem[], entryNext[]), with a free list, so no object is created per push.
+ *
+ * ---------------------------------------------------------
+ * 3. COMPLEXITY
+ * ---------------------------------------------------------
+ * Dijkstra: O(E + V * C) worst case, O(E + maxDistance) typical.
+ * Space: O(span + live entries)
+ *
+ * =========================================================
+ */
+
+public class IntBucketQueue {
+
+    private final int span;
+    private final int[] head;            // bucket -> first entry, -1 if empty
+    private int[] entryItem, entryNext;
+    private int freeList = -1, used;
+    private int size;
+    private int cursor;                  // smallest key that can still be non-empty
+    private int lastKey;
+
+    /**
+     * @param span one more than the largest difference between a pushed key and the last popped key
+     */
+    public IntBucketQueue(int span) {
+        if (span < 1) throw new IllegalArgumentException("span must be >= 1");
+        this.span = span;
+        head = new int[span];
+        Arrays.fill(head, -1);
+        entryItem = new int[16];
+        entryNext = new int[16];
+    }
+
+    public void push(int item, int key) {
+        if (key < cursor || key - cursor >= span) {
+            throw new IllegalArgumentException("key " + key + " outside [" + cursor + ", " + (cursor + span) + ")");
+        }
+        int e;
+        if (freeList != -1) {
+            e = freeList;
+            freeList = entryNext[e];
+        } else {
+            if (used == entryItem.length) {
+                entryItem = Arrays.copyOf(entryItem, used * 2);
+                entryNext = Arrays.copyOf(entryNext, used * 2);
+            }
+            e = used++;
+        }
+        int b = key % span;
+        entryItem[e] = item;
+        entryNext[e] = head[b];
+        head[b] = e;
+        size++;
+    }
+
+    /** Removes and returns an item with the smallest key; the key is available from lastKey(). */
+    public int pop() {
+        if (size == 0) throw new NoSuchElementException();
+        int b = cursor % span;
+        while (head[b] == -1) {
+            cursor++;
+            if (++b == span) b = 0;
+        }
+        int e = head[b];
+        head[b] = entryNext[e];
+        entryNext[e] = freeList;
+        freeList = e;
+        size--;
+        lastKey = cursor;
+        return entryItem[e];
+    }
+
+    public int lastKey() { return lastKey; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int size() { return size; }
+
+    public static void main(String[] args) {
+        IntBucketQueue pq = new IntBucketQueue(4); // keys may run up to 3 ahead of the minimum
+        pq.push(10, 2); pq.push(11, 0); pq.push(12, 3);
+        System.out.println(pq.pop() + "@" + pq.lastKey()); // 11@0
+        pq.push(13, 1);
+        System.out.println(pq.pop() + "@" + pq.lastKey()); // 13@1
+        pq.push(14, 4);
+        while (!pq.isEmpty()) System.out.println(pq.pop() + "@" + pq.lastKey()); // 10@2 12@3 14@4
+    }
+}
@@ -0,0 +1,75 @@
+package Graphs.ShortestPathAlgo_Problems;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * INT DEQUE (primitive double-ended queue for 0-1 BFS)
+ * =========================================================
+ *
+ * 0-1 BFS needs push-front (edge of weight 0) and push-back (edge of weight 1).
+ * ArrayDeque<Integer> would box every vertex; this is a growable power-of-two
+ * ring buffer of plain ints.
+ *
+ * Time Complexity  : O(1) amortized per operation
+ * Space Complexity : O(max size)
+ *
+ * =========================================================
+ */
+
+public class IntDeque {
+
+    private int[] buf;
+    private int head, tail;   // head = index of first element, tail = one past the last (both masked)
+    private int size;
+
+    public IntDeque(int capacity) {
+        int cap = 8;
+        while (cap < capacity) cap <<= 1;
+        buf = new int[cap];
+    }
+
+    public void addFirst(int x) {
+        if (size == buf.length) grow();
+        head = (head - 1) & (buf.length - 1);
+        buf[head] = x;
+        size++;
+    }
+
+    public void addLast(int x) {
+        if (size == buf.length) grow();
+        buf[tail] = x;
+        tail = (tail + 1) & (buf.length - 1);
+        size++;
+    }
+
+    public int pollFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        int x = buf[head];
+        head = (head + 1) & (buf.length - 1);
+        size--;
+        return x;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int size() { return size; }
+
+    public void clear() { head = tail = size = 0; }
+
+    private void grow() {
+        int[] nb = new int[buf.length * 2];
+        for (int i = 0; i < size; i++) nb[i] = buf[(head + i) & (buf.length - 1)];
+        buf = nb;
+        head = 0;
+        tail = size;
+    }
+
+    public static void main(String[] args) {
+        IntDeque dq = new IntDeque(2);
+        dq.addLast(1); dq.addLast(2); dq.addFirst(0); dq.addLast(3); dq.addFirst(-1);
+        StringBuilder sb = new StringBuilder();
+        while (!dq.isEmpty()) sb.append(dq.pollFirst()).append(' ');
+        System.out.println(sb); // -1 0 1 2 3
+    }
+}
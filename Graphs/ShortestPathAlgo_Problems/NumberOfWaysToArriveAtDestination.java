@@ -81,6 +81,9 @@ import java.util.*;
  * Modify Dijkstra by tracking both shortest distance and
  * number of ways to achieve it.
  *
+ * ShortestPathDag builds the whole shortest-path DAG once and
+ * answers counts (mod p or exact) and path listings from it.
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
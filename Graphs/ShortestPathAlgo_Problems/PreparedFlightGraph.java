@@ -0,0 +1,230 @@
+package Graphs.ShortestPathAlgo_Problems;
+
+import Graphs.Learning.CsrGraph;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * CHEAPEST FLIGHTS WITHIN K STOPS — PREPARED GRAPH / BATCH QUERIES
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM STATEMENT
+ * ---------------------------------------------------------
+ * Same question as CheapestFlightsWithinKStops, but thousands of
+ * (src, dst, K) queries hit the same flight table. The one-shot version
+ * rescans every int[] flight row in each of the K + 1 rounds and copies
+ * the whole dist[] per round, for every query.
+ *
+ * ---------------------------------------------------------
+ * 2. PREPARE ONCE
+ * ---------------------------------------------------------
+ * Flights are sorted by source city into CSR form (CsrGraph) once, so a
+ * round only touches the out-flights of cities that can still improve.
+ *
+ * ---------------------------------------------------------
+ * 3. LAYERED BELLMAN–FORD, DOUBLE-BUFFERED
+ * ---------------------------------------------------------
+ * - cur[] / next[] are two reusable arrays that swap roles each round
+ *   (no Arrays.copyOf per round, no allocation per query).
+ * - Only cities whose price CHANGED in the previous round are relaxed:
+ *   an unchanged city has already pushed its price along all its flights.
+ * - If a round changes nothing, later rounds cannot either → stop early.
+ * - One run answers ALL destinations for a (src, K) pair.
+ *
+ * ---------------------------------------------------------
+ * 4. BOUNDED-HOP DIJKSTRA (single pair, sparse graphs)
+ * ---------------------------------------------------------
+ * State = (city, edges used). Pop states by price; a state is useful only
+ * if it reaches its city with FEWER edges than every cheaper state popped
+ * before it (minEdges[city]), otherwise it is dominated. Stops at dst.
+ *
+ * ---------------------------------------------------------
+ * 5. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Prepare          : O(V + E)
+ * Batch (src, K)   : O(K × edges out of changed cities) ≤ O(K × E)
+ * Bounded Dijkstra : O(K × E log(K × E)) worst, usually far less
+ * Space            : O(V + E), reused across queries (not thread-safe;
+ *                    use one instance per thread)
+ *
+ * =========================================================
+ */
+
+public class PreparedFlightGraph {
+
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private final CsrGraph g;
+    private final int n;
+
+    // reusable buffers
+    private int[] cur, next;
+    private final int[] changed, nextChanged, changedStamp;
+    private int stamp;
+    private final int[] minEdges;
+    private long[] heapKey = new long[64];   // price << 32 | city
+    private int[] heapEdges = new int[64];   // edges used by the heap entry
+    private int heapSize;
+
+    public PreparedFlightGraph(int n, int[][] flights) {
+        this.n = n;
+        this.g = CsrGraph.fromEdges(n, flights, true);
+        cur = new int[n];
+        next = new int[n];
+        changed = new int[n];
+        nextChanged = new int[n];
+        changedStamp = new int[n];
+        minEdges = new int[n];
+    }
+
+    /**
+     * Cheapest price from src to every city with at most K stops (-1 if unreachable).
+     *
+     * @param out array of length n to fill, or null to allocate one
+     */
+    public int[] cheapestFrom(int src, int K, int[] out) {
+        Arrays.fill(cur, INF);
+        cur[src] = 0;
+        System.arraycopy(cur, 0, next, 0, n);
+        int[] frontier = changed, nextFrontier = nextChanged;
+        int size = 0;
+        frontier[size++] = src;
+
+        for (int round = 0; round <= K && size > 0; round++) {
+            stamp++;
+            int nextSize = 0;
+            for (int k = 0; k < size; k++) {
+                int u = frontier[k], du = cur[u];
+                for (int i = g.start(u); i < g.end(u); i++) {
+                    int v = g.target(i), nd = du + g.weight(i);
+                    if (nd < next[v]) {
+                        next[v] = nd;
+                        if (changedStamp[v] != stamp) {
+                            changedStamp[v] = stamp;
+                            nextFrontier[nextSize++] = v;
+                        }
+                    }
+                }
+            }
+            // next becomes the current layer; bring the old buffer up to date only where it differs
+            int[] t = cur; cur = next; next = t;
+            for (int k = 0; k < nextSize; k++) next[nextFrontier[k]] = cur[nextFrontier[k]];
+            int[] f = frontier; frontier = nextFrontier; nextFrontier = f;
+            size = nextSize;
+        }
+
+        if (out == null) out = new int[n];
+        for (int v = 0; v < n; v++) out[v] = cur[v] >= INF ? -1 : cur[v];
+        return out;
+    }
+
+    /** Same contract as CheapestFlightsWithinKStops.findCheapestPrice, via the batch pass. */
+    public int findCheapestPrice(int src, int dst, int K) {
+        return cheapestFrom(src, K, null)[dst];
+    }
+
+    /**
+     * Single-pair query with Dijkstra over (city, edges used) states; good for sparse graphs and
+     * destinations that are cheap to reach, since it stops as soon as dst is popped.
+     */
+    public int findCheapestPriceDijkstra(int src, int dst, int K) {
+        Arrays.fill(minEdges, Integer.MAX_VALUE);
+        heapSize = 0;
+        push(src, 0, 0);
+        while (heapSize > 0) {
+            long key = heapKey[0];
+            int edges = heapEdges[0];
+            pop();
+            int u = (int) key, price = (int) (key >>> 32);
+            if (u == dst) return price;
+            if (edges >= minEdges[u]) continue;      // a cheaper state already reached u with fewer edges
+            minEdges[u] = edges;
+            if (edges == K + 1) continue;            // no flights left
+            for (int i = g.start(u); i < g.end(u); i++) {
+                int v = g.target(i);
+                if (edges + 1 < minEdges[v]) push(v, price + g.weight(i), edges + 1);
+            }
+        }
+        return -1;
+    }
+
+    private void push(int city, int price, int edges) {
+        if (heapSize == heapKey.length) {
+            heapKey = Arrays.copyOf(heapKey, heapSize * 2);
+            heapEdges = Arrays.copyOf(heapEdges, heapSize * 2);
+        }
+        long key = ((long) price << 32) | city;
+        int i = heapSize++;
+        while (i > 0 && heapKey[(i - 1) >> 1] > key) {
+            heapKey[i] = heapKey[(i - 1) >> 1];
+            heapEdges[i] = heapEdges[(i - 1) >> 1];
+            i = (i - 1) >> 1;
+        }
+        heapKey[i] = key;
+        heapEdges[i] = edges;
+    }
+
+    private void pop() {
+        long key = heapKey[--heapSize];
+        int edges = heapEdges[heapSize];
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= heapSize) break;
+            if (l + 1 < heapSize && heapKey[l + 1] < heapKey[l]) l++;
+            if (heapKey[l] >= key) break;
+            heapKey[i] = heapKey[l];
+            heapEdges[i] = heapEdges[l];
+            i = l;
+        }
+        heapKey[i] = key;
+        heapEdges[i] = edges;
+    }
+
+    public static void main(String[] args) {
+
+        System.out.println("=== Cheapest Flights — Prepared Graph ===\n");
+
+        int[][] flights = {
+                {0, 1, 100},
+                {1, 2, 100},
+                {0, 2, 500},
+                {2, 3, 50},
+                {1, 3, 600}
+        };
+        PreparedFlightGraph fares = new PreparedFlightGraph(4, flights);
+
+        System.out.println("All prices from 0, K=1: " + Arrays.toString(fares.cheapestFrom(0, 1, null))); // [0, 100, 200, 550]
+        System.out.println("0 -> 2, K=1 (batch):    " + fares.findCheapestPrice(0, 2, 1));                  // 200
+        System.out.println("0 -> 3, K=1 (Dijkstra): " + fares.findCheapestPriceDijkstra(0, 3, 1));          // 550
+        System.out.println("0 -> 3, K=2 (Dijkstra): " + fares.findCheapestPriceDijkstra(0, 3, 2));          // 250
+
+        // many queries against one table, compared with the one-shot solver
+        int n = 2000, m = 20000;
+        Random rnd = new Random(5);
+        int[][] big = new int[m][];
+        for (int i = 0; i < m; i++) big[i] = new int[]{rnd.nextInt(n), rnd.nextInt(n), 1 + rnd.nextInt(1000)};
+        PreparedFlightGraph prepared = new PreparedFlightGraph(n, big);
+        CheapestFlightsWithinKStops oneShot = new CheapestFlightsWithinKStops();
+        int mismatches = 0;
+        long tBatch = 0, tDijkstra = 0, tOneShot = 0;
+        for (int q = 0; q < 300; q++) {
+            int s = rnd.nextInt(n), d = rnd.nextInt(n), k = rnd.nextInt(6);
+            long t0 = System.nanoTime();
+            int a = prepared.findCheapestPrice(s, d, k);
+            long t1 = System.nanoTime();
+            int b = prepared.findCheapestPriceDijkstra(s, d, k);
+            long t2 = System.nanoTime();
+            int c = oneShot.findCheapestPrice(n, big, s, d, k);
+            long t3 = System.nanoTime();
+            if (a != c || b != c) mismatches++;
+            tBatch += t1 - t0;
+            tDijkstra += t2 - t1;
+            tOneShot += t3 - t2;
+        }
+        System.out.printf("300 queries: batch %.0f ms, bounded Dijkstra %.0f ms, one-shot %.0f ms, mismatches %d%n",
+                tBatch / 1e6, tDijkstra / 1e6, tOneShot / 1e6, mismatches);
+    }
+}
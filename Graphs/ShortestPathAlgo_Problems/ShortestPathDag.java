@@ -0,0 +1,364 @@
+package Graphs.ShortestPathAlgo_Problems;
+
+import Graphs.Learning.CsrGraph;
+import Graphs.Learning.GraphView;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * SHORTEST-PATH DAG — COUNT AND LIST ALL SHORTEST PATHS
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM STATEMENT
+ * ---------------------------------------------------------
+ * NumberOfWaysToArriveAtDestination counts shortest paths inside its own
+ * Dijkstra; ShortestPathInDAG relaxes a DAG in an order found by a
+ * recursive DFS. Both questions (and "show me some of those paths")
+ * are answered by ONE structure:
+ *
+ *   the shortest-path DAG of src = every arc u → v (weight w) with
+ *                                  dist[u] + w == dist[v]
+ *
+ * Every shortest path from src is a path in this DAG and vice versa.
+ *
+ * ---------------------------------------------------------
+ * 2. BUILDING IT
+ * ---------------------------------------------------------
+ * - dijkstra(g, src): non-negative weights, primitive binary heap
+ *   (long[] keys + int[] vertices, lazy deletion)
+ * - dag(g, src): g itself is a DAG (negative weights allowed);
+ *   relax arcs in Kahn order
+ * Then keep the tight arcs as a CsrGraph (weights and input edge ids
+ * are carried over) and order its vertices with Kahn's algorithm —
+ * iterative, so a million-vertex chain is fine.
+ *
+ * Zero-weight arcs can make the tight arcs cyclic (a zero-weight cycle
+ * on a shortest path ⇒ infinitely many shortest walks); that is
+ * reported as IllegalStateException.
+ *
+ * ---------------------------------------------------------
+ * 3. QUERIES ON THE DAG
+ * ---------------------------------------------------------
+ * - countPaths(p)      : ways[v] mod p, one pass in topological order
+ * - countPathsExact()  : exact long counts, ArithmeticException if one
+ *                        does not fit (Math.addExact)
+ * - paths(t)           : lazy iterator over all shortest src → t paths;
+ *                        vertices that cannot reach t are pruned first,
+ *                        so every step of the DFS leads to a new path
+ * - firstPaths(t, k)   : the first k of them
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Build         : O((V + E) log V) Dijkstra, O(V + E) DAG mode
+ * Counting      : O(V + E)
+ * Each path     : O(path length) amortized after O(V + E) pruning
+ * Space         : O(V + E)
+ *
+ * =========================================================
+ */
+
+public final class ShortestPathDag {
+
+    public static final long INF = Long.MAX_VALUE / 4;
+
+    private final int n, src;
+    private final long[] dist;
+    private final CsrGraph dag;
+    private final int[] order; // reachable vertices in topological order of the DAG, src first
+
+    private ShortestPathDag(GraphView g, int src, long[] dist) {
+        this.n = g.vertexCount();
+        this.src = src;
+        this.dist = dist;
+
+        // tight arcs → CSR
+        int[] offset = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            if (dist[u] >= INF) continue;
+            for (int i = g.start(u); i < g.end(u); i++) {
+                if (dist[u] + g.weight(i) == dist[g.target(i)]) offset[u + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) offset[v + 1] += offset[v];
+        int m = offset[n];
+        int[] target = new int[m], weight = new int[m], edgeId = new int[m];
+        for (int u = 0, k = 0; u < n; u++) {
+            if (dist[u] >= INF) continue;
+            for (int i = g.start(u); i < g.end(u); i++) {
+                int v = g.target(i);
+                if (dist[u] + g.weight(i) == dist[v]) {
+                    target[k] = v;
+                    weight[k] = g.weight(i);
+                    edgeId[k++] = g.edgeId(i);
+                }
+            }
+        }
+        this.dag = new CsrGraph(n, offset, target, weight, edgeId);
+
+        // Kahn from src; every reachable vertex must be emitted, otherwise the tight arcs have a cycle
+        int reachable = 0;
+        for (long d : dist) if (d < INF) reachable++;
+        int[] indeg = new int[n];
+        for (int i = 0; i < m; i++) indeg[target[i]]++;
+        int[] queue = new int[reachable];
+        int head = 0, tail = 0;
+        if (indeg[src] == 0) queue[tail++] = src;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int i = offset[u]; i < offset[u + 1]; i++) {
+                if (--indeg[target[i]] == 0) queue[tail++] = target[i];
+            }
+        }
+        if (tail != reachable) {
+            throw new IllegalStateException("zero-weight cycle on a shortest path: path count is infinite");
+        }
+        this.order = queue;
+    }
+
+    /**
+     * Single-source shortest paths with Dijkstra; all weights must be non-negative.
+     */
+    public static ShortestPathDag dijkstra(GraphView g, int src) {
+        int n = g.vertexCount();
+        long[] dist = new long[n];
+        Arrays.fill(dist, INF);
+        dist[src] = 0;
+
+        long[] heapKey = new long[16];
+        int[] heapVertex = new int[16];
+        int size = 0;
+        heapKey[size] = 0;
+        heapVertex[size++] = src;
+        while (size > 0) {
+            long d = heapKey[0];
+            int u = heapVertex[0];
+            // pop: move the last entry down from the root
+            long lastKey = heapKey[--size];
+            int lastVertex = heapVertex[size];
+            int p = 0;
+            while (true) {
+                int c = 2 * p + 1;
+                if (c >= size) break;
+                if (c + 1 < size && heapKey[c + 1] < heapKey[c]) c++;
+                if (heapKey[c] >= lastKey) break;
+                heapKey[p] = heapKey[c];
+                heapVertex[p] = heapVertex[c];
+                p = c;
+            }
+            heapKey[p] = lastKey;
+            heapVertex[p] = lastVertex;
+
+            if (d > dist[u]) continue; // stale entry
+            for (int i = g.start(u); i < g.end(u); i++) {
+                int w = g.weight(i);
+                if (w < 0) throw new IllegalArgumentException("negative weight on arc " + u + " -> " + g.target(i));
+                int v = g.target(i);
+                long nd = d + w;
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    if (size == heapKey.length) {
+                        heapKey = Arrays.copyOf(heapKey, size * 2);
+                        heapVertex = Arrays.copyOf(heapVertex, size * 2);
+                    }
+                    int q = size++;
+                    while (q > 0 && heapKey[(q - 1) >> 1] > nd) {
+                        heapKey[q] = heapKey[(q - 1) >> 1];
+                        heapVertex[q] = heapVertex[(q - 1) >> 1];
+                        q = (q - 1) >> 1;
+                    }
+                    heapKey[q] = nd;
+                    heapVertex[q] = v;
+                }
+            }
+        }
+        return new ShortestPathDag(g, src, dist);
+    }
+
+    /**
+     * Single-source shortest paths in a DAG (any weights) by relaxing arcs in Kahn order.
+     *
+     * @throws IllegalArgumentException if g has a cycle
+     */
+    public static ShortestPathDag dag(GraphView g, int src) {
+        int n = g.vertexCount();
+        int[] indeg = new int[n];
+        for (int i = 0; i < g.arcCount(); i++) indeg[g.target(i)]++;
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        for (int v = 0; v < n; v++) if (indeg[v] == 0) queue[tail++] = v;
+
+        long[] dist = new long[n];
+        Arrays.fill(dist, INF);
+        dist[src] = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int i = g.start(u); i < g.end(u); i++) {
+                int v = g.target(i);
+                if (dist[u] < INF && dist[u] + g.weight(i) < dist[v]) dist[v] = dist[u] + g.weight(i);
+                if (--indeg[v] == 0) queue[tail++] = v;
+            }
+        }
+        if (tail != n) throw new IllegalArgumentException("graph has a cycle");
+        return new ShortestPathDag(g, src, dist);
+    }
+
+    public int source() { return src; }
+
+    /** Shortest distance from the source, or INF if unreachable. */
+    public long distance(int v) { return dist[v]; }
+
+    public long[] distances() { return dist.clone(); }
+
+    /** The tight arcs as a graph; weight(slot) and edgeId(slot) refer to the input arc. */
+    public CsrGraph dag() { return dag; }
+
+    /** Vertices reachable from the source, in topological order of the DAG. */
+    public int[] topologicalOrder() { return order.clone(); }
+
+    /**
+     * Number of shortest paths from the source to every vertex, modulo mod (0 if unreachable).
+     */
+    public long[] countPaths(long mod) {
+        long[] ways = new long[n];
+        ways[src] = 1 % mod;
+        for (int u : order) {
+            long wu = ways[u];
+            if (wu == 0) continue;
+            for (int i = dag.start(u); i < dag.end(u); i++) {
+                int v = dag.target(i);
+                ways[v] = (ways[v] + wu) % mod;
+            }
+        }
+        return ways;
+    }
+
+    /**
+     * Exact number of shortest paths to every vertex.
+     *
+     * @throws ArithmeticException if a count does not fit in a long
+     */
+    public long[] countPathsExact() {
+        long[] ways = new long[n];
+        ways[src] = 1;
+        for (int u : order) {
+            for (int i = dag.start(u); i < dag.end(u); i++) {
+                int v = dag.target(i);
+                ways[v] = Math.addExact(ways[v], ways[u]);
+            }
+        }
+        return ways;
+    }
+
+    /**
+     * Lazily enumerates every shortest path from the source to t (as vertex arrays, source first).
+     * Paths come out in DFS order of the DAG arcs; parallel tight arcs give one path each, matching
+     * the counts.
+     */
+    public Iterator<int[]> paths(int t) {
+        boolean[] useful = new boolean[n]; // can reach t inside the DAG
+        if (dist[t] < INF) {
+            useful[t] = true;
+            for (int k = order.length - 1; k >= 0; k--) {
+                int u = order[k];
+                for (int i = dag.start(u); i < dag.end(u) && !useful[u]; i++) useful[u] = useful[dag.target(i)];
+            }
+        }
+        return new Iterator<int[]>() {
+            final int[] path = new int[order.length];
+            final int[] cursor = new int[order.length];
+            int depth;
+            boolean ready, started;
+
+            @Override
+            public boolean hasNext() {
+                if (!ready) ready = advance();
+                return ready;
+            }
+
+            @Override
+            public int[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ready = false;
+                return Arrays.copyOf(path, depth);
+            }
+
+            private boolean advance() {
+                if (!started) {
+                    started = true;
+                    if (!useful[src]) return false;
+                    path[0] = src;
+                    cursor[0] = src == t ? dag.end(src) : dag.start(src);
+                    depth = 1;
+                    if (src == t) return true;
+                }
+                while (depth > 0) {
+                    int v = path[depth - 1];
+                    if (cursor[depth - 1] == dag.end(v)) {
+                        depth--;
+                        continue;
+                    }
+                    int w = dag.target(cursor[depth - 1]++);
+                    if (!useful[w]) continue;
+                    path[depth] = w;
+                    cursor[depth] = w == t ? dag.end(w) : dag.start(w);
+                    depth++;
+                    if (w == t) return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** The first k shortest paths to t in the order of paths(t). */
+    public List<int[]> firstPaths(int t, int k) {
+        List<int[]> res = new ArrayList<>();
+        for (Iterator<int[]> it = paths(t); it.hasNext() && res.size() < k; ) res.add(it.next());
+        return res;
+    }
+
+    public static void main(String[] args) {
+
+        System.out.println("=== Shortest-Path DAG ===\n");
+
+        // NumberOfWaysToArriveAtDestination example: 2 shortest paths 0 → 3
+        int[][] roads = {{0, 1, 1}, {0, 2, 1}, {1, 3, 1}, {2, 3, 1}};
+        ShortestPathDag spd = dijkstra(CsrGraph.fromEdges(4, roads, false), 0);
+        System.out.println("Ways 0 -> 3: " + spd.countPaths(1_000_000_007L)[3]); // 2
+        for (int[] p : spd.firstPaths(3, 10)) System.out.println("  " + Arrays.toString(p));
+
+        // ShortestPathInDAG example (negative weights would be fine too)
+        int[][] dagEdges = {{5, 2, 2}, {5, 0, 1}, {4, 0, 1}, {4, 1, 1}, {2, 3, 1}, {3, 1, 5}};
+        ShortestPathDag d = dag(CsrGraph.fromEdges(6, dagEdges, true), 5);
+        System.out.println("DAG distances from 5: " + Arrays.toString(d.distances())); // [1, 8, 2, 3, INF, 0]
+
+        // 40 x 40 unit grid: C(78, 39) ≈ 2.6e22 corner-to-corner paths — too many for a long
+        int side = 40, n = side * side;
+        List<int[]> edges = new ArrayList<>();
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                if (c + 1 < side) edges.add(new int[]{r * side + c, r * side + c + 1, 1});
+                if (r + 1 < side) edges.add(new int[]{r * side + c, (r + 1) * side + c, 1});
+            }
+        }
+        ShortestPathDag grid = dijkstra(CsrGraph.fromEdges(n, edges.toArray(new int[0][]), false), 0);
+        System.out.println("Grid corner paths mod 1e9+7: " + grid.countPaths(1_000_000_007L)[n - 1]);
+        try {
+            grid.countPathsExact();
+        } catch (ArithmeticException e) {
+            System.out.println("Exact count overflows long, as expected");
+        }
+        System.out.println("First 3 grid paths have " + grid.firstPaths(n - 1, 3).size() + " entries of length "
+                + grid.firstPaths(n - 1, 1).get(0).length); // 79 vertices
+
+        // deep chain: no recursion anywhere
+        int len = 1_000_000;
+        int[] from = new int[len - 1], to = new int[len - 1], w = new int[len - 1];
+        for (int i = 0; i + 1 < len; i++) { from[i] = i; to[i] = i + 1; w[i] = -1; }
+        ShortestPathDag chain = dag(CsrGraph.directed(len, from, to, w), 0);
+        System.out.println("Chain of " + len + ": dist to end " + chain.distance(len - 1)
+                + ", paths " + chain.countPathsExact()[len - 1]);
+    }
+}
@@ -71,6 +71,9 @@ import java.util.*;
  * In a DAG, shortest paths can be computed by relaxing edges
  * in topological order.
  *
+ * ShortestPathDag.dag(...) does the same with an iterative Kahn
+ * order over a CsrGraph (no recursion for deep DAGs).
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
@@ -25,6 +25,7 @@ import java.util.*;
  *
  * Complexity: O(totalLetters + alphabetSize + edges), Space O(alphabetSize + edges). This method
  * ensures we derive a consistent order or detect invalid inputs efficiently.
+ * For large alphabets and word lists see BitsetAlienDictionary (dense ids, bitsets, parallel extraction).
  */
 
 public class AlienDictionary {
@@ -0,0 +1,157 @@
+package Graphs.Topological_sort_problems;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Alien Dictionary over dense symbol ids and bitsets — for large alphabets and word lists
+ *
+ * AlienDictionary keeps Map<Character, Set<Character>> and Map<Character, Integer>, so every edge and every
+ * in-degree update boxes a Character/Integer. Here the whole UTF-16 range (65,536 symbols) is allowed and
+ * nothing is boxed:
+ *
+ * 1) Symbols -> dense ids. Each parallel chunk of words marks the chars it contains in a 65,536-bit mask;
+ *    the masks are OR-ed and ids are handed out in increasing char order (id 0 = smallest char present).
+ * 2) Precedence extraction is independent per adjacent pair (words[i], words[i+1]), so the pairs are
+ *    processed with a parallel stream; each pair yields one edge packed as (u << 16) | v, or marks the
+ *    input invalid when a longer word precedes its own prefix.
+ * 3) adj[u] is a long[] bitset over symbol ids, allocated only for symbols with an outgoing edge.
+ *    Setting a bit that is already set is how duplicate edges are ignored (no HashSet).
+ * 4) Kahn's algorithm keeps the zero in-degree symbols in a bitset `ready` and always takes the lowest set
+ *    bit (Long.numberOfTrailingZeros), so the result is the smallest valid order by char code — unlike
+ *    the HashMap iteration order of AlienDictionary, it is deterministic.
+ *
+ * Complexity: O(totalLetters / P + pairs / P) for extraction with P threads,
+ * O(K^2 / 64) for Kahn over K distinct symbols (scanning each adjacency row), and memory
+ * O(K / 8) bytes per symbol that has an outgoing edge.
+ */
+
+public class BitsetAlienDictionary {
+
+    private static final int ALPHABET = 1 << 16;
+    private static final int CHUNK = 1 << 12; // words per parallel chunk when collecting symbols
+
+    public String alienOrder(String[] words) {
+        // 1) symbols present, collected per chunk in parallel
+        int chunks = (words.length + CHUNK - 1) / CHUNK;
+        long[] present = IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            long[] mask = new long[ALPHABET >>> 6];
+            for (int i = c * CHUNK, end = Math.min(words.length, i + CHUNK); i < end; i++) {
+                String w = words[i];
+                for (int j = 0; j < w.length(); j++) {
+                    char ch = w.charAt(j);
+                    mask[ch >>> 6] |= 1L << ch;
+                }
+            }
+            return mask;
+        }).reduce(new long[ALPHABET >>> 6], (a, b) -> {
+            long[] r = new long[ALPHABET >>> 6];
+            for (int i = 0; i < r.length; i++) r[i] = a[i] | b[i];
+            return r;
+        });
+
+        int[] idOf = new int[ALPHABET];
+        char[] symbol = new char[ALPHABET];
+        int k = 0;
+        for (int w = 0; w < present.length; w++) {
+            for (long x = present[w]; x != 0; x &= x - 1) {
+                int ch = (w << 6) + Long.numberOfTrailingZeros(x);
+                idOf[ch] = k;
+                symbol[k++] = (char) ch;
+            }
+        }
+
+        // 2) one precedence edge per adjacent pair, in parallel; -1 = no edge, -2 = invalid prefix order
+        long[] edges = IntStream.range(0, Math.max(0, words.length - 1)).parallel().mapToLong(i -> {
+            String a = words[i], b = words[i + 1];
+            int len = Math.min(a.length(), b.length());
+            int p = 0;
+            while (p < len && a.charAt(p) == b.charAt(p)) p++;
+            if (p < len) return ((long) idOf[a.charAt(p)] << 16) | idOf[b.charAt(p)];
+            return a.length() > b.length() ? -2 : -1;
+        }).filter(e -> e != -1).toArray();
+
+        // 3) adjacency bitsets and in-degrees
+        int words64 = (k + 63) >>> 6;
+        long[][] adj = new long[k][];
+        int[] indeg = new int[k];
+        for (long e : edges) {
+            if (e == -2) return "";
+            int u = (int) (e >>> 16), v = (int) (e & 0xFFFF);
+            if (adj[u] == null) adj[u] = new long[words64];
+            long bit = 1L << v;
+            if ((adj[u][v >>> 6] & bit) == 0) {
+                adj[u][v >>> 6] |= bit;
+                indeg[v]++;
+            }
+        }
+
+        // 4) Kahn, always taking the lowest ready id
+        long[] ready = new long[words64];
+        for (int v = 0; v < k; v++) if (indeg[v] == 0) ready[v >>> 6] |= 1L << v;
+        StringBuilder sb = new StringBuilder(k);
+        int low = 0; // no ready bit below word `low`
+        while (true) {
+            while (low < words64 && ready[low] == 0) low++;
+            if (low == words64) break;
+            int u = (low << 6) + Long.numberOfTrailingZeros(ready[low]);
+            ready[low] &= ready[low] - 1;
+            sb.append(symbol[u]);
+            if (adj[u] == null) continue;
+            long[] row = adj[u];
+            for (int w = 0; w < words64; w++) {
+                for (long x = row[w]; x != 0; x &= x - 1) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(x);
+                    if (--indeg[v] == 0) {
+                        ready[w] |= 1L << v;
+                        low = Math.min(low, w);
+                    }
+                }
+            }
+        }
+        return sb.length() == k ? sb.toString() : "";
+    }
+
+    public static void main(String[] args) {
+        BitsetAlienDictionary sol = new BitsetAlienDictionary();
+        String[] words = {"wrt","wrf","er","ett","rftt"};
+        System.out.println("Alien order: " + sol.alienOrder(words)); // wertf
+        System.out.println("Prefix violation: \"" + sol.alienOrder(new String[]{"abc", "ab"}) + "\"");
+        System.out.println("Cycle: \"" + sol.alienOrder(new String[]{"z", "x", "z"}) + "\"");
+
+        // Large alphabet: a hidden random order over 20,000 CJK chars, one million sorted random words
+        int k = 20_000, n = 1_000_000;
+        Random rnd = new Random(5);
+        char[] secret = new char[k];
+        for (int i = 0; i < k; i++) secret[i] = (char) (0x4E00 + i);
+        for (int i = k - 1; i > 0; i--) { int j = rnd.nextInt(i + 1); char t = secret[i]; secret[i] = secret[j]; secret[j] = t; }
+        int[] rank = new int[1 << 16];
+        for (int i = 0; i < k; i++) rank[secret[i]] = i;
+        String[] dict = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] w = new char[1 + rnd.nextInt(4)];
+            for (int j = 0; j < w.length; j++) w[j] = secret[rnd.nextInt(k)];
+            dict[i] = new String(w);
+        }
+        Arrays.sort(dict, (a, b) -> {
+            for (int i = 0; i < Math.min(a.length(), b.length()); i++) {
+                if (a.charAt(i) != b.charAt(i)) return rank[a.charAt(i)] - rank[b.charAt(i)];
+            }
+            return a.length() - b.length();
+        });
+        long t0 = System.nanoTime();
+        String order = sol.alienOrder(dict);
+        long t1 = System.nanoTime();
+        int[] pos = new int[1 << 16];
+        for (int i = 0; i < order.length(); i++) pos[order.charAt(i)] = i;
+        boolean valid = order.length() == k;
+        for (int i = 0; i + 1 < n && valid; i++) {
+            String a = dict[i], b = dict[i + 1];
+            int p = 0;
+            while (p < Math.min(a.length(), b.length()) && a.charAt(p) == b.charAt(p)) p++;
+            if (p < Math.min(a.length(), b.length())) valid = pos[a.charAt(p)] < pos[b.charAt(p)];
+        }
+        System.out.printf("%d words, %d symbols: order of length %d respects every adjacent pair: %b (%.0f ms)%n",
+                n, k, order.length(), valid, (t1 - t0) / 1e6);
+    }
+}
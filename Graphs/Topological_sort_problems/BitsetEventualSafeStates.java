@@ -0,0 +1,85 @@
+package Graphs.Topological_sort_problems;
+
+import java.util.*;
+
+/**
+ * Find Eventual Safe States with reverse Kahn and bitsets — no recursion, no boxing
+ *
+ * FindEventualSafeStates answers with a recursive 3-color DFS (deep graphs overflow the stack) and a
+ * List<Integer>. The same answer falls out of Kahn's algorithm run on the reversed graph:
+ * - a node with out-degree 0 is terminal, hence safe;
+ * - when all successors of u are known safe, u is safe: decrement outdeg[u] for every predecessor of a
+ *   newly safe node, and u becomes ready when its counter hits 0;
+ * - nodes that can reach a cycle never get there and stay unsafe.
+ *
+ * The predecessors are stored as flat int arrays (reverse CSR). Ready nodes and safe nodes are long[]
+ * bitsets: the next ready node is the lowest set bit (Long.numberOfTrailingZeros) and the answer is read
+ * off the safe bitset, already in increasing order, without sorting.
+ *
+ * Complexity: O(V + E) plus O(V / 64) for the bit scans, Space O(V + E) ints.
+ */
+
+public class BitsetEventualSafeStates {
+
+    /** Safe nodes in increasing order. */
+    public int[] safeNodes(int[][] graph) {
+        int n = graph.length, words = (n + 63) >>> 6;
+
+        // reverse CSR: pred[first[v] .. first[v + 1]) are the nodes with an edge into v
+        int[] first = new int[n + 1];
+        int[] outdeg = new int[n];
+        for (int u = 0; u < n; u++) {
+            outdeg[u] = graph[u].length;
+            for (int v : graph[u]) first[v + 1]++;
+        }
+        for (int v = 0; v < n; v++) first[v + 1] += first[v];
+        int[] fill = Arrays.copyOf(first, n);
+        int[] pred = new int[first[n]];
+        for (int u = 0; u < n; u++) for (int v : graph[u]) pred[fill[v]++] = u;
+
+        long[] ready = new long[words], safe = new long[words];
+        for (int u = 0; u < n; u++) if (outdeg[u] == 0) ready[u >>> 6] |= 1L << u;
+        int count = 0, low = 0;
+        while (true) {
+            while (low < words && ready[low] == 0) low++;
+            if (low == words) break;
+            int v = (low << 6) + Long.numberOfTrailingZeros(ready[low]);
+            ready[low] &= ready[low] - 1;
+            safe[v >>> 6] |= 1L << v;
+            count++;
+            for (int i = first[v]; i < first[v + 1]; i++) {
+                int u = pred[i];
+                if (--outdeg[u] == 0) {
+                    ready[u >>> 6] |= 1L << u;
+                    low = Math.min(low, u >>> 6);
+                }
+            }
+        }
+
+        int[] res = new int[count];
+        for (int w = 0, k = 0; w < words; w++) {
+            for (long x = safe[w]; x != 0; x &= x - 1) res[k++] = (w << 6) + Long.numberOfTrailingZeros(x);
+        }
+        return res;
+    }
+
+    /** Same signature and result as FindEventualSafeStates.eventualSafeNodes. */
+    public List<Integer> eventualSafeNodes(int[][] graph) {
+        List<Integer> res = new ArrayList<>();
+        for (int v : safeNodes(graph)) res.add(v);
+        return res;
+    }
+
+    public static void main(String[] args) {
+        BitsetEventualSafeStates sol = new BitsetEventualSafeStates();
+        int[][] graph = {{1,2},{2,3},{5},{0},{5}, {}, {}};
+        System.out.println("Safe nodes: " + sol.eventualSafeNodes(graph)); // [2, 4, 5, 6]
+
+        // A chain of a million nodes ending in a self-loop: the recursive DFS would overflow here
+        int n = 1_000_000;
+        int[][] chain = new int[n][];
+        for (int i = 0; i + 1 < n; i++) chain[i] = new int[]{i + 1};
+        chain[n - 1] = new int[]{n - 1};
+        System.out.println("Chain into a cycle: " + sol.safeNodes(chain).length + " safe nodes"); // 0
+    }
+}
@@ -0,0 +1,255 @@
+package Graphs.Topological_sort_problems;
+
+import Graphs.Learning.CsrGraph;
+import Graphs.Learning.GraphView;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * DAG Task Executor — running the work in Kahn order instead of only computing the order
+ *
+ * KahnAlgorithm and CourseScheduleII.findOrder produce a list; a build system or job scheduler wants the
+ * tasks themselves executed, as many at a time as the dependencies allow.
+ *
+ * Kahn's algorithm, made concurrent:
+ * 1) indeg[v] lives in an AtomicIntegerArray. Every task with indeg 0 is "ready" and is queued.
+ * 2) When a task finishes, each successor's counter is decremented; the thread that brings it to 0 is
+ *    the only one that sees 0, so it (and nobody else) queues that successor. No locks on the graph.
+ * 3) At most `parallelism` tasks run at once (fixed worker count).
+ *
+ * Critical-path-first: the ready queue is a priority queue keyed by the task's bottom level,
+ *    level[v] = cost[v] + max(level[s] for successors s)
+ * i.e. the length of the longest chain still hanging off v. Starting the longest chains first is the
+ * classic list-scheduling heuristic for short makespan. Levels are computed once with a reverse Kahn
+ * pass (iterative, so deep DAGs are fine).
+ *
+ * Failure: the first exception is recorded, no further tasks are started, running ones are interrupted,
+ * and every task that never ran, or that stopped because of that interrupt, is reported as CANCELLED.
+ *
+ * Metrics per task: queue wait (ready -> started) and run time (started -> finished), in nanoseconds.
+ *
+ * Complexity: O(V + E) scheduling work plus O(log V) per queue operation.
+ */
+
+public class DagTaskExecutor {
+
+    public enum Status { PENDING, DONE, FAILED, CANCELLED }
+
+    private final int parallelism;
+
+    public DagTaskExecutor(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs tasks[v] for every vertex of the DAG; an arc u -> v means u must finish before v starts.
+     *
+     * @param dag   dependency graph with tasks.length vertices
+     * @param tasks work per vertex
+     * @param cost  estimated cost per vertex for critical-path priority, or null for unit costs
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public Report run(GraphView dag, Runnable[] tasks, long[] cost) throws InterruptedException {
+        int n = dag.vertexCount();
+        if (tasks.length != n) throw new IllegalArgumentException("need one task per vertex");
+        long[] level = bottomLevels(dag, cost);
+
+        Report report = new Report(n);
+        AtomicIntegerArray indeg = new AtomicIntegerArray(n);
+        for (int u = 0; u < n; u++) {
+            for (int i = dag.start(u); i < dag.end(u); i++) indeg.incrementAndGet(dag.target(i));
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>());
+        // idle workers up front: otherwise execute() hands each job to a fresh thread, bypassing the queue
+        pool.prestartAllCoreThreads();
+        AtomicInteger settled = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        long t0 = System.nanoTime();
+
+        class Job implements Runnable, Comparable<Job> {
+            final int v;
+
+            Job(int v) {
+                this.v = v;
+                report.readyAt[v] = System.nanoTime();
+            }
+
+            @Override
+            public int compareTo(Job o) {
+                return Long.compare(level[o.v], level[v]); // longest remaining chain first
+            }
+
+            @Override
+            public void run() {
+                if (failure.get() != null) { settle(); return; }
+                report.startAt[v] = System.nanoTime();
+                try {
+                    tasks[v].run();
+                    report.endAt[v] = System.nanoTime();
+                    report.status[v] = Status.DONE;
+                } catch (Throwable t) {
+                    report.endAt[v] = System.nanoTime();
+                    if (failure.get() != null && isCancellation(t)) {
+                        report.status[v] = Status.CANCELLED;   // interrupted by shutdownNow()
+                        return;
+                    }
+                    report.status[v] = Status.FAILED;
+                    if (failure.compareAndSet(null, t)) finished.countDown();
+                    return;
+                }
+                for (int i = dag.start(v); i < dag.end(v); i++) {
+                    int w = dag.target(i);
+                    if (indeg.decrementAndGet(w) == 0 && failure.get() == null) {
+                        try {
+                            pool.execute(new Job(w));
+                        } catch (RejectedExecutionException ignored) {
+                            // pool is shutting down after a failure
+                        }
+                    }
+                }
+                settle();
+            }
+
+            private void settle() {
+                if (settled.incrementAndGet() == n) finished.countDown();
+            }
+        }
+
+        if (n == 0) finished.countDown();
+        // roots in priority order too, since idle workers take each one as soon as it is queued
+        List<Integer> roots = new ArrayList<>();
+        for (int v = 0; v < n; v++) if (indeg.get(v) == 0) roots.add(v);
+        roots.sort((a, b) -> Long.compare(level[b], level[a]));
+        for (int v : roots) pool.execute(new Job(v));
+        try {
+            finished.await();
+        } finally {
+            if (failure.get() != null) pool.shutdownNow();
+            else pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        report.failure = failure.get();
+        report.wallNanos = System.nanoTime() - t0;
+        for (int v = 0; v < n; v++) if (report.status[v] == Status.PENDING) report.status[v] = Status.CANCELLED;
+        return report;
+    }
+
+    // what a task throws when the shutdown after a failure interrupts it
+    private static boolean isCancellation(Throwable t) {
+        return t instanceof CancellationException || t instanceof InterruptedException
+                || t.getCause() instanceof InterruptedException;
+    }
+
+    /** level[v] = cost[v] + max level over successors, via Kahn on the reversed graph. */
+    static long[] bottomLevels(GraphView dag, long[] cost) {
+        int n = dag.vertexCount();
+        int[] outdeg = new int[n];
+        for (int v = 0; v < n; v++) outdeg[v] = dag.degree(v);
+        CsrGraph rev = CsrGraph.transposeOf(dag);
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        for (int v = 0; v < n; v++) if (outdeg[v] == 0) queue[tail++] = v;
+        long[] level = new long[n];
+        while (head < tail) {
+            int v = queue[head++];
+            level[v] += cost == null ? 1 : cost[v];
+            for (int i = rev.start(v); i < rev.end(v); i++) {
+                int u = rev.target(i);
+                level[u] = Math.max(level[u], level[v]);
+                if (--outdeg[u] == 0) queue[tail++] = u;
+            }
+        }
+        if (tail != n) throw new IllegalArgumentException("graph has a cycle");
+        return level;
+    }
+
+    /** Outcome and timings of one run. Times are System.nanoTime() stamps; 0 if the phase never happened. */
+    public static final class Report {
+        final Status[] status;
+        final long[] readyAt, startAt, endAt;
+        Throwable failure;
+        long wallNanos;
+
+        Report(int n) {
+            status = new Status[n];
+            Arrays.fill(status, Status.PENDING);
+            readyAt = new long[n];
+            startAt = new long[n];
+            endAt = new long[n];
+        }
+
+        public Status status(int v) { return status[v]; }
+
+        public long queueWaitNanos(int v) { return startAt[v] == 0 ? 0 : startAt[v] - readyAt[v]; }
+
+        public long runNanos(int v) { return endAt[v] == 0 ? 0 : endAt[v] - startAt[v]; }
+
+        public long wallNanos() { return wallNanos; }
+
+        /** First exception thrown by a task, or null if every task completed. */
+        public Throwable failure() { return failure; }
+    }
+
+    private static Runnable sleepTask(String name, long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException(name + " interrupted");
+            }
+            System.out.println("  finished " + name);
+        };
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // same DAG as KahnAlgorithm.main: 5->2, 5->0, 4->0, 4->1, 2->3, 3->1
+        int[][] edges = {{5,2},{5,0},{4,0},{4,1},{2,3},{3,1}};
+        CsrGraph dag = CsrGraph.fromEdges(6, edges, true);
+        long[] cost = {10, 10, 30, 30, 10, 10};
+        Runnable[] tasks = new Runnable[6];
+        for (int v = 0; v < 6; v++) tasks[v] = sleepTask("task " + v, cost[v]);
+
+        DagTaskExecutor exec = new DagTaskExecutor(2);
+        System.out.println("Run with 2 workers:");
+        Report r = exec.run(dag, tasks, cost);
+        for (int v = 0; v < 6; v++) {
+            System.out.printf("  task %d %s wait=%.1fms run=%.1fms%n", v, r.status(v),
+                    r.queueWaitNanos(v) / 1e6, r.runNanos(v) / 1e6);
+        }
+        System.out.printf("  wall %.1fms%n", r.wallNanos() / 1e6);
+
+        System.out.println("Run where task 2 fails:");
+        tasks[2] = () -> { throw new IllegalStateException("compile error in task 2"); };
+        tasks[4] = sleepTask("task 4", 500);   // still running when task 2 fails: interrupted, CANCELLED
+        r = exec.run(dag, tasks, cost);
+        System.out.println("  failure: " + r.failure().getMessage());
+        for (int v = 0; v < 6; v++) System.out.println("  task " + v + " " + r.status(v));
+
+        // 8 roots on 2 workers; the critical chain 7 -> 8 -> 9 hangs off the root with the highest id
+        CsrGraph wide = CsrGraph.fromEdges(10, new int[][]{{7,8},{8,9}}, true);
+        long[] wideCost = new long[10];
+        Runnable[] wideTasks = new Runnable[10];
+        for (int v = 0; v < 10; v++) {
+            wideCost[v] = v >= 7 ? 20 : 5;
+            long ms = wideCost[v];
+            wideTasks[v] = () -> {
+                try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            };
+        }
+        r = exec.run(wide, wideTasks, wideCost);
+        int first = 0;
+        for (int v = 1; v < 10; v++) if (r.startAt[v] < r.startAt[first]) first = v;
+        System.out.printf("More roots than workers: task %d started first (critical root is 7), wall %.1fms%n",
+                first, r.wallNanos() / 1e6);
+    }
+}
@@ -0,0 +1,203 @@
+package Graphs.Topological_sort_problems;
+
+import java.util.*;
+
+/**
+ * Dynamic Topological Order (Pearce–Kelly) — keeping a valid order while edges are inserted
+ *
+ * KahnAlgorithm, TopologicalSortDFS and the Course Schedule solutions recompute the whole order from
+ * scratch. When a dependency graph grows one edge at a time (build systems, schedulers), that is O(V+E)
+ * per insert even though most inserts do not change the order at all.
+ *
+ * Idea: keep ord[v] (position of v) and node[i] (vertex at position i). For a new edge x -> y:
+ * 1) If ord[x] < ord[y] the order is still valid — nothing to do.
+ * 2) Otherwise only vertices with positions in the "affected region" [ord[y], ord[x]] can be out of place:
+ *    - deltaF = vertices reachable forward from y with ord <= ord[x]
+ *      (if x is among them, the edge closes a cycle and is rejected before anything is changed)
+ *    - deltaB = vertices reaching x backward with ord >= ord[y]
+ * 3) Collect the positions currently held by deltaB ∪ deltaF, sort them, and hand them out again:
+ *    first deltaB (kept in its old relative order), then deltaF (same). Everything outside the region
+ *    keeps its position.
+ *
+ * Both searches are iterative (explicit int stack) and bounded by the region, so an insert costs
+ * O(|delta| log |delta| + edges incident to delta) instead of O(V + E).
+ *
+ * Worked example: order [0,1,2,3] with edges 0->1, 2->3; inserting 3->1 gives region [1..3],
+ * deltaF = {1}, deltaB = {2,3}; positions {1,2,3} are reassigned to 2,3,1 -> order [0,2,3,1].
+ * Inserting 1->2 afterwards would close 1->2->3->1 and is rejected.
+ */
+
+public class DynamicTopologicalOrder {
+
+    private int n;
+    private int[] ord, node;
+    private int[][] out, in;
+    private int[] outSize, inSize;
+    private boolean[] mark;
+
+    // scratch buffers reused across inserts
+    private int[] stack = new int[16];
+    private int[] deltaF = new int[16], deltaB = new int[16];
+    private int nf, nb;
+
+    /** Starts with n isolated vertices in the order 0, 1, ..., n-1. */
+    public DynamicTopologicalOrder(int n) {
+        this.n = n;
+        int cap = Math.max(n, 4);
+        ord = new int[cap];
+        node = new int[cap];
+        out = new int[cap][];
+        in = new int[cap][];
+        outSize = new int[cap];
+        inSize = new int[cap];
+        mark = new boolean[cap];
+        for (int v = 0; v < n; v++) { ord[v] = v; node[v] = v; }
+    }
+
+    /** Adds a vertex at the end of the order and returns its id. */
+    public int addVertex() {
+        if (n == ord.length) {
+            int cap = ord.length * 2;
+            ord = Arrays.copyOf(ord, cap);
+            node = Arrays.copyOf(node, cap);
+            out = Arrays.copyOf(out, cap);
+            in = Arrays.copyOf(in, cap);
+            outSize = Arrays.copyOf(outSize, cap);
+            inSize = Arrays.copyOf(inSize, cap);
+            mark = Arrays.copyOf(mark, cap);
+        }
+        ord[n] = n;
+        node[n] = n;
+        return n++;
+    }
+
+    /**
+     * Inserts edge x -> y (x must come before y).
+     *
+     * @return false (and leaves the graph unchanged) if the edge would create a cycle
+     */
+    public boolean addEdge(int x, int y) {
+        if (x == y) return false;
+        int lb = ord[y], ub = ord[x];
+        if (lb < ub) {
+            nf = 0;
+            if (!forward(y, ub)) {
+                for (int i = 0; i < nf; i++) mark[deltaF[i]] = false;
+                return false;
+            }
+            nb = 0;
+            backward(x, lb);
+            reorder();
+        }
+        out[x] = push(out[x], outSize[x]++, y);
+        in[y] = push(in[y], inSize[y]++, x);
+        return true;
+    }
+
+    /** Position of v in the current order. */
+    public int position(int v) { return ord[v]; }
+
+    /** Copy of the current order. */
+    public int[] order() { return Arrays.copyOf(node, n); }
+
+    public int vertexCount() { return n; }
+
+    // DFS from y over out-edges restricted to ord <= ub; false if x (at position ub) is reached
+    private boolean forward(int y, int ub) {
+        int sp = 0;
+        stack = ensure(stack, 1);
+        stack[sp++] = y;
+        mark[y] = true;
+        deltaF = ensure(deltaF, nf + 1);
+        deltaF[nf++] = y;
+        while (sp > 0) {
+            int v = stack[--sp];
+            for (int i = 0; i < outSize[v]; i++) {
+                int w = out[v][i];
+                if (ord[w] == ub) return false;
+                if (!mark[w] && ord[w] < ub) {
+                    mark[w] = true;
+                    stack = ensure(stack, sp + 1);
+                    stack[sp++] = w;
+                    deltaF = ensure(deltaF, nf + 1);
+                    deltaF[nf++] = w;
+                }
+            }
+        }
+        return true;
+    }
+
+    // DFS from x over in-edges restricted to ord > lb
+    private void backward(int x, int lb) {
+        int sp = 0;
+        stack[sp++] = x;
+        mark[x] = true;
+        deltaB = ensure(deltaB, nb + 1);
+        deltaB[nb++] = x;
+        while (sp > 0) {
+            int v = stack[--sp];
+            for (int i = 0; i < inSize[v]; i++) {
+                int w = in[v][i];
+                if (!mark[w] && ord[w] > lb) {
+                    mark[w] = true;
+                    stack = ensure(stack, sp + 1);
+                    stack[sp++] = w;
+                    deltaB = ensure(deltaB, nb + 1);
+                    deltaB[nb++] = w;
+                }
+            }
+        }
+    }
+
+    private void reorder() {
+        sortByOrd(deltaB, nb);
+        sortByOrd(deltaF, nf);
+        int total = nb + nf;
+        int[] slots = new int[total];
+        int[] list = new int[total];
+        for (int i = 0; i < nb; i++) { list[i] = deltaB[i]; slots[i] = ord[deltaB[i]]; }
+        for (int i = 0; i < nf; i++) { list[nb + i] = deltaF[i]; slots[nb + i] = ord[deltaF[i]]; }
+        Arrays.sort(slots);
+        for (int i = 0; i < total; i++) {
+            int v = list[i];
+            mark[v] = false;
+            ord[v] = slots[i];
+            node[slots[i]] = v;
+        }
+    }
+
+    // sorts the first len vertices of a by current position, packing (ord, v) into one long
+    private void sortByOrd(int[] a, int len) {
+        long[] keys = new long[len];
+        for (int i = 0; i < len; i++) keys[i] = ((long) ord[a[i]] << 32) | a[i];
+        Arrays.sort(keys);
+        for (int i = 0; i < len; i++) a[i] = (int) keys[i];
+    }
+
+    private static int[] push(int[] arr, int size, int val) {
+        if (arr == null) arr = new int[2];
+        else if (size == arr.length) arr = Arrays.copyOf(arr, size * 2);
+        arr[size] = val;
+        return arr;
+    }
+
+    private static int[] ensure(int[] arr, int need) {
+        return need <= arr.length ? arr : Arrays.copyOf(arr, Math.max(need, arr.length * 2));
+    }
+
+    public static void main(String[] args) {
+        DynamicTopologicalOrder dto = new DynamicTopologicalOrder(4);
+        dto.addEdge(0, 1);
+        dto.addEdge(2, 3);
+        System.out.println("Insert 3->1: " + dto.addEdge(3, 1) + " order " + Arrays.toString(dto.order())); // [0, 2, 3, 1]
+        System.out.println("Insert 1->2: " + dto.addEdge(1, 2) + " order " + Arrays.toString(dto.order())); // rejected
+
+        // Course Schedule style stream: prerequisites arrive one by one as {course, prereq}
+        int[][] prereq = {{1,0},{2,0},{3,1},{3,2},{0,3}};
+        DynamicTopologicalOrder courses = new DynamicTopologicalOrder(4);
+        for (int[] p : prereq) {
+            boolean ok = courses.addEdge(p[1], p[0]);
+            System.out.println("prereq " + p[1] + " -> " + p[0] + (ok ? " accepted, order " + Arrays.toString(courses.order()) : " rejected (cycle)"));
+        }
+    }
+}
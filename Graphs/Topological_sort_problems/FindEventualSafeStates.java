@@ -23,6 +23,7 @@ import java.util.*;
  *
  * This technique memoizes results and avoids repeated work; once a node is marked safe (2), subsequent
  * calls are O(1). Complexity: Time O(V+E) because each edge and vertex processed at most once, Space O(V).
+ * BitsetEventualSafeStates gets the same answer iteratively (reverse Kahn), safe for very deep graphs.
  */
 
 public class FindEventualSafeStates {
@@ -18,6 +18,7 @@ import java.util.*;
  *   - If v is not root and low[to] >= tin[v], then v is an articulation point (no back-edge from 'to' subtree to ancestor of v).
  *
  * Complexity: O(V + E) time and O(V + E) space
+ * Recursion depth equals the DFS depth; for large path-like graphs use IterativeBiconnectivity.
  *
  * Example:
  * For graph with edges {0-1,1-2,2-0,1-3}, articulation point is 1 (removing 1 disconnects node 3).
@@ -19,6 +19,7 @@ import java.util.*;
  * - otherwise recurse and update low[v] = min(low[v], low[to]). If low[to] > tin[v], then (v,to) is a bridge.
  *
  * Complexity: O(V + E) time and O(V + E) space
+ * Recursion depth equals the DFS depth; for large path-like graphs use IterativeBiconnectivity.
  *
  * Example:
  * Graph: 0--1--3 and 0--2 with edges {0-1,1-2,2-0,1-3}
@@ -15,6 +15,8 @@ import java.util.*;
  * 3. Pop vertices from the stack and run DFS on the transpose graph. Each DFS from a popped node yields one SCC.
  *
  * Complexity: O(V + E) time and O(V + E) space
+ * Both passes recurse as deep as the longest DFS path; see IterativeTarjanSCC (sequential) and
+ * ParallelFwBwSCC (multi-core) for large graphs.
  *
  * Example:
  * Graph edges: 0->1,1->2,2->0 (SCC), 1->3,3->4,4->5,5->3 (SCC) -> components: [0,1,2] and [3,4,5]
@@ -0,0 +1,258 @@
+package Graphs.others;
+
+import Graphs.Learning.CsrGraph;
+import Graphs.Learning.GraphView;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STRONGLY CONNECTED COMPONENTS — parallel Forward-Backward (FW-BW) with trimming
+ *
+ * Problem:
+ * Same output as IterativeTarjanSCC (a component id per vertex), but for graphs large enough that
+ * spreading the work over several cores pays off. Tarjan is inherently sequential (one DFS).
+ *
+ * Approach:
+ * 1. Trim: a vertex with no incoming or no outgoing edge (among the vertices of its subproblem) is a
+ *    component on its own. Peel such vertices with a queue until none is left; in real graphs this
+ *    removes the bulk of the trivial components, including long chains. Trimming is repeated inside
+ *    every subproblem, because splitting off an SCC often leaves new zero-degree vertices behind.
+ * 2. FW-BW on the remaining set S (all vertices with the same color):
+ *    - pick a pivot p, BFS forward from p inside S   -> F
+ *    - BFS backward from p inside S                  -> B
+ *    - F ∩ B is exactly the SCC of p
+ *    - every other SCC lies entirely inside F \ B, B \ F or S \ (F ∪ B)
+ *    The three remainders are independent. A task keeps its pending subsets on an explicit work list:
+ *    for large subsets every part but the biggest is forked and the biggest is processed by the same
+ *    loop, small subsets are all processed in the loop. Nothing recurses, so a long chain of SCCs (each
+ *    split peels off one small component) cannot overflow the stack.
+ * Subproblems are told apart by a color per vertex; every new subproblem gets a fresh color, so a task
+ * never mistakes a vertex owned by another task for one of its own.
+ *
+ * Complexity: O(V + E) per round of trimming; FW-BW is O(V * E) in the worst case but close to linear in
+ * practice, with the remainders processed in parallel. Memory: the transpose graph plus a few int[V].
+ *
+ * Example:
+ * edges 0->1,1->2,2->0,1->3,3->4,4->5,5->3,5->6 -> 6 is trimmed, {0,1,2} and {3,4,5} found by FW-BW
+ */
+public class ParallelFwBwSCC {
+
+    private static final int DONE = -1;           // color of vertices that already have a component
+    private static final int SEQUENTIAL_CUTOFF = 1 << 12;
+
+    private final ForkJoinPool pool;
+    private final AtomicInteger nextColor = new AtomicInteger(1), nextComponent = new AtomicInteger();
+    private GraphView g, rg;
+    private int[] color, comp;
+    private int[] inDeg, outDeg;                  // degrees inside the vertex's current subproblem
+
+    public ParallelFwBwSCC() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelFwBwSCC(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Labels every vertex with its SCC id in [0, componentCount()). Ids are not in any particular order.
+     */
+    public int[] components(GraphView graph) {
+        g = graph;
+        rg = CsrGraph.transposeOf(graph);
+        int n = g.vertexCount();
+        color = new int[n];
+        comp = new int[n];
+        inDeg = new int[n];
+        outDeg = new int[n];
+        nextColor.set(1);
+        nextComponent.set(0);
+
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) all[v] = v;
+        if (n > 0) pool.invoke(new FwBwTask(all, 0));
+
+        int[] res = comp;
+        g = rg = null;
+        color = comp = inDeg = outDeg = null;
+        return res;
+    }
+
+    /** Components found by the last components() call; 0 before the first call. */
+    public int componentCount() { return nextComponent.get(); }
+
+    /**
+     * Peels vertices of color c with zero in- or out-degree inside the set; returns the vertices left over.
+     * Subproblems own disjoint vertices, so the shared degree arrays are never touched by two tasks at once.
+     */
+    private int[] trim(int[] set, int c, int[] queue) {
+        int head = 0, tail = 0;
+        for (int v : set) {
+            int in = 0, out = 0;
+            for (int i = rg.start(v); i < rg.end(v); i++) if (color[rg.target(i)] == c) in++;
+            for (int i = g.start(v); i < g.end(v); i++) if (color[g.target(i)] == c) out++;
+            inDeg[v] = in;
+            outDeg[v] = out;
+        }
+        for (int v : set) {
+            if (inDeg[v] == 0 || outDeg[v] == 0) { color[v] = DONE; queue[tail++] = v; }
+        }
+        while (head < tail) {
+            int v = queue[head++];
+            comp[v] = nextComponent.getAndIncrement();
+            for (int i = g.start(v); i < g.end(v); i++) {
+                int w = g.target(i);
+                if (color[w] == c && --inDeg[w] == 0) { color[w] = DONE; queue[tail++] = w; }
+            }
+            for (int i = rg.start(v); i < rg.end(v); i++) {
+                int w = rg.target(i);
+                if (color[w] == c && --outDeg[w] == 0) { color[w] = DONE; queue[tail++] = w; }
+            }
+        }
+        if (tail == 0) return set;
+        int[] rest = new int[set.length - tail];
+        int k = 0;
+        for (int v : set) if (color[v] == c) rest[k++] = v;
+        return rest;
+    }
+
+    /**
+     * One FW-BW round on the vertices of color c: trims, labels the pivot's SCC and appends the
+     * non-empty remainders to parts.
+     */
+    private void split(int[] set, int c, List<FwBwTask> parts) {
+        int[] queue = new int[set.length];
+        set = trim(set, c, queue);
+        if (set.length == 0) return;
+
+        int pivot = set[0];
+        int fw = nextColor.getAndIncrement();
+        int bw = nextColor.getAndIncrement();
+
+        // forward closure of the pivot inside the set: color c -> fw
+        int head = 0, tail = 0;
+        color[pivot] = fw;
+        queue[tail++] = pivot;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = g.start(v); i < g.end(v); i++) {
+                int w = g.target(i);
+                if (color[w] == c) { color[w] = fw; queue[tail++] = w; }
+            }
+        }
+
+        // backward closure: fw -> DONE (that is the pivot's SCC), c -> bw
+        int id = nextComponent.getAndIncrement();
+        head = tail = 0;
+        color[pivot] = DONE;
+        comp[pivot] = id;
+        queue[tail++] = pivot;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = rg.start(v); i < rg.end(v); i++) {
+                int w = rg.target(i);
+                if (color[w] == fw) {
+                    color[w] = DONE;
+                    comp[w] = id;
+                    queue[tail++] = w;
+                } else if (color[w] == c) {
+                    color[w] = bw;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        // split the remainder by color; each part is an independent subproblem
+        int nf = 0, nb = 0, nr = 0;
+        for (int v : set) {
+            if (color[v] == fw) nf++;
+            else if (color[v] == bw) nb++;
+            else if (color[v] == c) nr++;
+        }
+        int[] fSet = new int[nf], bSet = new int[nb], rSet = new int[nr];
+        nf = nb = nr = 0;
+        for (int v : set) {
+            if (color[v] == fw) fSet[nf++] = v;
+            else if (color[v] == bw) bSet[nb++] = v;
+            else if (color[v] == c) rSet[nr++] = v;
+        }
+        if (nf > 0) parts.add(new FwBwTask(fSet, fw));
+        if (nb > 0) parts.add(new FwBwTask(bSet, bw));
+        if (nr > 0) parts.add(new FwBwTask(rSet, c));
+    }
+
+    private final class FwBwTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] set;
+        private final int c;
+
+        FwBwTask(int[] set, int c) {
+            this.set = set;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            ArrayDeque<FwBwTask> pending = new ArrayDeque<>();
+            List<FwBwTask> forked = new ArrayList<>();
+            List<FwBwTask> parts = new ArrayList<>(3);
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                FwBwTask t = pending.pop();
+                parts.clear();
+                split(t.set, t.c, parts);
+                if (parts.isEmpty()) continue;
+                if (t.set.length < SEQUENTIAL_CUTOFF) {
+                    for (FwBwTask p : parts) pending.push(p);
+                    continue;
+                }
+                // fork all parts but the biggest; the biggest stays in this loop
+                int big = 0;
+                for (int i = 1; i < parts.size(); i++) {
+                    if (parts.get(i).set.length > parts.get(big).set.length) big = i;
+                }
+                for (int i = 0; i < parts.size(); i++) {
+                    if (i != big) forked.add((FwBwTask) parts.get(i).fork());
+                }
+                pending.push(parts.get(big));
+            }
+            for (int i = forked.size() - 1; i >= 0; i--) forked.get(i).join();
+        }
+    }
+
+    public static void main(String[] args) {
+        int[][] edges = {{0,1},{1,2},{2,0},{1,3},{3,4},{4,5},{5,3},{5,6}};
+        CsrGraph g = CsrGraph.fromEdges(7, edges, true);
+        ParallelFwBwSCC solver = new ParallelFwBwSCC();
+        int[] comp = solver.components(g);
+        System.out.println("Component ids: " + Arrays.toString(comp) + " (" + solver.componentCount() + " components)");
+        CsrGraph dag = IterativeTarjanSCC.condensation(g, comp, solver.componentCount());
+        System.out.println("Condensation arcs: " + dag.arcCount()); // 2
+
+        // random graph: compare against the sequential engine
+        int n = 200_000, m = 400_000;
+        Random rnd = new Random(7);
+        int[] from = new int[m], to = new int[m];
+        for (int i = 0; i < m; i++) { from[i] = rnd.nextInt(n); to[i] = rnd.nextInt(n); }
+        CsrGraph big = CsrGraph.directed(n, from, to, null);
+        IterativeTarjanSCC tarjan = new IterativeTarjanSCC();
+        tarjan.components(big);
+        solver.components(big);
+        System.out.println("Random graph: Tarjan " + tarjan.componentCount() + " vs FW-BW " + solver.componentCount());
+
+        // 5,000 chained 2-cycles (2i <-> 2i+1, 2i+1 -> 2i+2): every split peels off one pair
+        int pairs = 5_000;
+        int[] cf = new int[3 * pairs - 1], ct = new int[3 * pairs - 1];
+        for (int i = 0, k = 0; i < pairs; i++) {
+            cf[k] = 2 * i; ct[k++] = 2 * i + 1;
+            cf[k] = 2 * i + 1; ct[k++] = 2 * i;
+            if (i + 1 < pairs) { cf[k] = 2 * i + 1; ct[k++] = 2 * i + 2; }
+        }
+        solver.components(CsrGraph.directed(2 * pairs, cf, ct, null));
+        System.out.println("Chained 2-cycles: " + solver.componentCount() + " components"); // 5000
+    }
+}
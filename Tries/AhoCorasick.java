@@ -0,0 +1,299 @@
+package Tries;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * =========================================================
+ * AHO–CORASICK — ALL PATTERNS IN ONE PASS OVER THE TEXT
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * KMPAlgorithm, RabinKarp and ZFunction find ONE pattern per
+ * scan: 50,000 patterns = 50,000 scans of the log.
+ * Aho–Corasick scans the text once, whatever the number of
+ * patterns: O(text + patterns + matches).
+ *
+ * ---------------------------------------------------------
+ * 2. THE AUTOMATON
+ * ---------------------------------------------------------
+ * 1) Put all patterns in a trie (one state per trie node).
+ *    Tries.Trie is not reused: it only knows 'a'-'z' and its
+ *    Node[26] children cannot be flattened in place. The trie
+ *    is built directly inside the transition table instead,
+ *    with -1 marking a missing child.
+ * 2) fail[s]  = state of the longest PROPER suffix of s's string
+ *               that is also in the trie (like KMP's lps, but
+ *               across all patterns at once). Found by BFS.
+ * 3) dict[s]  = nearest state on the fail chain that ENDS a
+ *               pattern, so reporting never walks through states
+ *               without output.
+ * 4) Flatten: a missing transition s --c--> becomes
+ *    next[fail[s]][c]. Then matching never follows fail links:
+ *
+ *      state = next[state × K + classOf[ch]]
+ *
+ * ---------------------------------------------------------
+ * 3. ALPHABET CLASSES
+ * ---------------------------------------------------------
+ * Every char that occurs in some pattern gets its own class
+ * 1 .. K-1; all other chars share class 0 (they can only lead
+ * back to the root). The table has K columns instead of 65,536.
+ *
+ * Patterns are char sequences. ByteBuffer input is read as
+ * ISO-8859-1 (byte b = char b & 0xFF): ASCII patterns match
+ * UTF-8 logs directly, and fromBytes() builds patterns from raw
+ * bytes (e.g. UTF-8 encoded) for anything else.
+ *
+ * ---------------------------------------------------------
+ * 4. STREAMING
+ * ---------------------------------------------------------
+ * A Matcher keeps (state, offset) between chunks, so a match
+ * may span chunk borders. Matches go to a MatchListener as
+ * (patternId, endOffset) primitives, endOffset exclusive and
+ * absolute over all chunks fed so far — nothing is allocated
+ * per match.
+ *
+ * ---------------------------------------------------------
+ * 5. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let M = total pattern length, K = classes, Z = matches
+ * Build : O(M × K)
+ * Scan  : O(text + Z)
+ * Space : (M + 1) × K ints for the table
+ *
+ * =========================================================
+ */
+
+public class AhoCorasick {
+
+    /** Receives one call per match; endOffset is exclusive. */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int patternId, long endOffset);
+    }
+
+    private final int[] classOf = new int[Character.MAX_VALUE + 1];
+    private final int classes;
+    private final int[] next;           // states × classes
+    private final int[] dict;           // nearest proper suffix state with output, 0 = none
+    private final int[] outHead;        // first pattern ending at a state, -1 = none
+    private final int[] outNext;        // next pattern ending at the same state (duplicates)
+    private final int[] lengths;
+    private final int states;
+
+    /** Patterns are numbered in list order; they must be non-empty. */
+    public AhoCorasick(List<? extends CharSequence> patterns) {
+        int total = 0;
+        for (CharSequence p : patterns) {
+            if (p.length() == 0) throw new IllegalArgumentException("empty pattern");
+            total += p.length();
+            for (int i = 0; i < p.length(); i++) classOf[p.charAt(i)] = 1;
+        }
+        int k = 1;
+        for (int c = 0; c < classOf.length; c++) if (classOf[c] != 0) classOf[c] = k++;
+        classes = k;
+
+        int maxStates = total + 1;
+        if ((long) maxStates * classes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("transition table too large: " + maxStates + " x " + classes);
+        }
+        int[] table = new int[maxStates * classes];
+        Arrays.fill(table, -1);
+        int[] head = new int[maxStates];
+        Arrays.fill(head, -1);
+        outNext = new int[patterns.size()];
+        lengths = new int[patterns.size()];
+
+        // 1) trie, built in the flat table (Trie's Node[26] cannot hold arbitrary chars)
+        int count = 1;
+        for (int id = 0; id < patterns.size(); id++) {
+            CharSequence p = patterns.get(id);
+            int s = 0;
+            for (int i = 0; i < p.length(); i++) {
+                int slot = s * classes + classOf[p.charAt(i)];
+                if (table[slot] == -1) table[slot] = count++;
+                s = table[slot];
+            }
+            outNext[id] = head[s];
+            head[s] = id;
+            lengths[id] = p.length();
+        }
+
+        // 2–4) BFS: failure links, dictionary links, flattened transitions
+        int[] fail = new int[count];
+        int[] dictLink = new int[count];
+        int[] queue = new int[count];
+        int qh = 0, qt = 0;
+        for (int c = 0; c < classes; c++) {
+            int t = table[c];
+            if (t == -1) {
+                table[c] = 0;
+            } else {
+                queue[qt++] = t;        // fail = root, dict = none
+            }
+        }
+        while (qh < qt) {
+            int s = queue[qh++];
+            int base = s * classes, failBase = fail[s] * classes;
+            for (int c = 0; c < classes; c++) {
+                int t = table[base + c];
+                if (t == -1) {
+                    table[base + c] = table[failBase + c];
+                } else {
+                    int f = table[failBase + c];
+                    fail[t] = f;
+                    dictLink[t] = head[f] != -1 ? f : dictLink[f];
+                    queue[qt++] = t;
+                }
+            }
+        }
+
+        states = count;
+        next = Arrays.copyOf(table, count * classes);
+        dict = dictLink;
+        outHead = Arrays.copyOf(head, count);
+    }
+
+    /** Patterns given as raw bytes (e.g. UTF-8), for matching ByteBuffer input. */
+    public static AhoCorasick fromBytes(List<byte[]> patterns) {
+        List<String> asChars = new ArrayList<>(patterns.size());
+        for (byte[] p : patterns) asChars.add(new String(p, StandardCharsets.ISO_8859_1));
+        return new AhoCorasick(asChars);
+    }
+
+    public int stateCount() { return states; }
+
+    public int classCount() { return classes; }
+
+    public int patternLength(int patternId) { return lengths[patternId]; }
+
+    public Matcher matcher(MatchListener listener) {
+        return new Matcher(listener);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * STREAMING MATCHER
+     * -----------------------------------------------------
+     */
+    public final class Matcher {
+
+        private final MatchListener listener;
+        private int state;
+        private long offset;
+
+        private Matcher(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        public Matcher feed(CharSequence chunk) {
+            int s = state;
+            for (int i = 0, n = chunk.length(); i < n; i++) {
+                s = next[s * classes + classOf[chunk.charAt(i)]];
+                if (outHead[s] != -1 || dict[s] != 0) report(s, offset + i + 1);
+            }
+            state = s;
+            offset += chunk.length();
+            return this;
+        }
+
+        /** Consumes the buffer's remaining bytes. */
+        public Matcher feed(ByteBuffer chunk) {
+            int s = state;
+            long base = offset - chunk.position();
+            for (int i = chunk.position(), end = chunk.limit(); i < end; i++) {
+                s = next[s * classes + classOf[chunk.get(i) & 0xFF]];
+                if (outHead[s] != -1 || dict[s] != 0) report(s, base + i + 1);
+            }
+            offset += chunk.remaining();
+            chunk.position(chunk.limit());
+            state = s;
+            return this;
+        }
+
+        /** Symbols consumed so far. */
+        public long offset() { return offset; }
+
+        public void reset() {
+            state = 0;
+            offset = 0;
+        }
+
+        private void report(int s, long end) {
+            for (int u = outHead[s] != -1 ? s : dict[s]; u != 0; u = dict[u]) {
+                for (int p = outHead[u]; p != -1; p = outNext[p]) listener.onMatch(p, end);
+            }
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Aho–Corasick ===\n");
+
+        List<String> patterns = List.of("he", "she", "his", "hers");
+        AhoCorasick ac = new AhoCorasick(patterns);
+        ac.matcher((id, end) -> System.out.println("  " + patterns.get(id) + " ends at " + end))
+                .feed("ush")
+                .feed("ers");   // she@4, he@4, hers@6 — across the chunk border
+
+        // random patterns and text against indexOf
+        Random rnd = new Random(12);
+        int mismatches = 0;
+        for (int t = 0; t < 300; t++) {
+            List<String> ps = new ArrayList<>();
+            for (int i = 0; i < 1 + rnd.nextInt(20); i++) ps.add(randomWord(rnd, 1 + rnd.nextInt(4), 3));
+            String text = randomWord(rnd, rnd.nextInt(200), 3);
+            AhoCorasick a = new AhoCorasick(ps);
+            Set<Long> got = new HashSet<>();
+            Matcher m = a.matcher((id, end) -> got.add(((long) id << 32) | end));
+            for (int from = 0; from < text.length(); from += 7) m.feed(text.substring(from, Math.min(text.length(), from + 7)));
+            Set<Long> expected = new HashSet<>();
+            for (int id = 0; id < ps.size(); id++) {
+                for (int at = text.indexOf(ps.get(id)); at >= 0; at = text.indexOf(ps.get(id), at + 1)) {
+                    expected.add(((long) id << 32) | (at + ps.get(id).length()));
+                }
+            }
+            if (!got.equals(expected)) mismatches++;
+        }
+        System.out.println("Random texts vs indexOf: " + mismatches + " mismatches");
+
+        // 50,000 patterns over a 20 MB log, fed as byte chunks
+        List<byte[]> many = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) many.add(("ERR-" + randomWord(rnd, 6, 26)).getBytes(StandardCharsets.UTF_8));
+        long t0 = System.nanoTime();
+        AhoCorasick big = fromBytes(many);
+        long t1 = System.nanoTime();
+        byte[] log = new byte[20 << 20];
+        for (int i = 0; i < log.length; i++) log[i] = (byte) (rnd.nextInt(8) == 0 ? '-' : "ERabcdefghijklmnopqrstuvwxyz".charAt(rnd.nextInt(28)));
+        for (int i = 0; i < 1_000; i++) {
+            byte[] p = many.get(rnd.nextInt(many.size()));
+            System.arraycopy(p, 0, log, rnd.nextInt(log.length - p.length), p.length);
+        }
+        long[] hits = new long[1];
+        Matcher bm = big.matcher((id, end) -> hits[0]++);
+        ByteBuffer buf = ByteBuffer.wrap(log);
+        long t2 = System.nanoTime();
+        for (int from = 0; from < log.length; from += 1 << 16) {
+            buf.limit(Math.min(log.length, from + (1 << 16))).position(from);
+            bm.feed(buf);
+        }
+        long t3 = System.nanoTime();
+        System.out.printf("50,000 patterns: %d states x %d classes built in %.0f ms; 20 MB scanned in %.0f ms, %d matches%n",
+                big.stateCount(), big.classCount(), (t1 - t0) / 1e6, (t3 - t2) / 1e6, hits[0]);
+    }
+
+    private static String randomWord(Random rnd, int len, int alphabet) {
+        char[] w = new char[len];
+        for (int i = 0; i < len; i++) w[i] = (char) ('a' + rnd.nextInt(alphabet));
+        return new String(w);
+    }
+}
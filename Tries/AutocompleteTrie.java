@@ -0,0 +1,341 @@
+package Tries;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * TOP-K AUTOCOMPLETE (TRIE-II WITH CACHED COMPLETIONS)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM
+ * ---------------------------------------------------------
+ * TrieII.countWordsStartingWith(prefix) says HOW MANY words
+ * complete a prefix, but not WHICH. Listing the best k of them
+ * by walking the subtree costs O(subtree) per keystroke — and
+ * the subtree of "a" is a good part of the dictionary.
+ *
+ * ---------------------------------------------------------
+ * 2. IDEA: EVERY NODE REMEMBERS ITS BEST K WORDS
+ * ---------------------------------------------------------
+ * - Each distinct word gets an int id; words[id], weight[id].
+ * - Each node keeps top[] = ids of the (at most) K best words
+ *   in its subtree, best first:
+ *     higher weight first, ties → lexicographically smaller
+ * - topK(prefix, k) = walk the prefix, copy the first k ids.
+ *   No subtree walk, no string building: O(L + k).
+ *
+ * Weight = insert count by default (insert +1, erase -1);
+ * setWeight(word, w) overrides it.
+ *
+ * ---------------------------------------------------------
+ * 3. KEEPING THE CACHES RIGHT
+ * ---------------------------------------------------------
+ * Only the nodes on the word's path (root → end node) contain
+ * the word in their subtree, so only they can change.
+ *
+ * Weight goes UP:
+ *   - in top[]     → move it forward
+ *   - not in top[] → insert if it beats the last (or top[] is
+ *     not full), dropping the last
+ *
+ * Weight goes DOWN (or the word disappears):
+ *   - in top[]     → the K-th best may now be a word that was
+ *     not cached here, so rebuild top[] by merging the node's
+ *     own word with the children's top[] lists (≤ 26 sorted
+ *     lists, first K of the merge). Done bottom-up, so the
+ *     children are already correct.
+ *
+ * Early exit (both cases): if the word is not (and does not
+ * get) in a node's top[], then K better words exist in that
+ * subtree, hence in every ancestor's subtree too — stop.
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let L = word length, K = cache size
+ * topK                     → O(L + k)
+ * insert (weight up)       → O(L × K)
+ * erase / setWeight down   → O(L × 26 × K) worst case
+ * Space → TrieII + K ints per node
+ *
+ * =========================================================
+ */
+
+public class AutocompleteTrie {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static class Node {
+        Node[] children = new Node[26];
+        int prefixCount = 0;
+        int endCount = 0;
+        int wordId = -1;
+        int[] top = NO_IDS;     // ids, best first; grows up to K
+        int topSize = 0;
+    }
+
+    private final int cacheSize;
+    private final Node root = new Node();
+    private String[] words = new String[16];
+    private long[] weight = new long[16];
+    private int wordCount = 0;
+
+    /** @param cacheSize K: the largest k that topK can answer */
+    public AutocompleteTrie(int cacheSize) {
+        if (cacheSize < 1) throw new IllegalArgumentException("cacheSize must be positive: " + cacheSize);
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * UPDATES
+     * -----------------------------------------------------
+     */
+    public void insert(String word) {
+        Node[] path = new Node[word.length() + 1];
+        Node cur = root;
+        path[0] = cur;
+        cur.prefixCount++;
+        for (int i = 0; i < word.length(); i++) {
+            int idx = index(word, i);
+            if (cur.children[idx] == null) cur.children[idx] = new Node();
+            cur = cur.children[idx];
+            cur.prefixCount++;
+            path[i + 1] = cur;
+        }
+        cur.endCount++;
+        if (cur.wordId < 0) cur.wordId = newId(word);
+        weight[cur.wordId]++;
+        raised(path, cur.wordId);
+    }
+
+    /** Removes one copy of word (its weight drops by 1); does nothing if it is not present. */
+    public void erase(String word) {
+        Node[] path = path(word);
+        if (path == null) return;
+        for (Node node : path) node.prefixCount--;
+        Node end = path[word.length()];
+        end.endCount--;
+        weight[end.wordId]--;
+        lowered(path, end.wordId);
+    }
+
+    /** Sets the ranking weight of a present word; returns false if the word is not present. */
+    public boolean setWeight(String word, long w) {
+        Node[] path = path(word);
+        if (path == null) return false;
+        int id = path[word.length()].wordId;
+        long old = weight[id];
+        weight[id] = w;
+        if (w > old) raised(path, id);
+        else if (w < old) lowered(path, id);
+        return true;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * QUERIES
+     * -----------------------------------------------------
+     */
+
+    /** The k best completions of prefix, best first (fewer if the subtree has fewer words). */
+    public List<String> topK(String prefix, int k) {
+        int[] ids = topKIds(prefix, k);
+        List<String> res = new ArrayList<>(ids.length);
+        for (int id : ids) res.add(words[id]);
+        return res;
+    }
+
+    /** Same as topK, as word ids (see word(id), weight(id)). */
+    public int[] topKIds(String prefix, int k) {
+        if (k > cacheSize) throw new IllegalArgumentException("k = " + k + " exceeds the cache size " + cacheSize);
+        Node node = traverse(prefix);
+        if (node == null) return NO_IDS;
+        return Arrays.copyOf(node.top, Math.min(k, node.topSize));
+    }
+
+    public String word(int id) { return words[id]; }
+
+    public long weight(int id) { return weight[id]; }
+
+    public int countWordsEqualTo(String word) {
+        Node node = traverse(word);
+        return node == null ? 0 : node.endCount;
+    }
+
+    public int countWordsStartingWith(String prefix) {
+        Node node = traverse(prefix);
+        return node == null ? 0 : node.prefixCount;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * CACHE MAINTENANCE
+     * -----------------------------------------------------
+     */
+    private void raised(Node[] path, int id) {
+        for (int d = path.length - 1; d >= 0; d--) {
+            Node node = path[d];
+            int pos = indexOf(node, id);
+            if (pos < 0) {
+                if (node.topSize == cacheSize && !better(id, node.top[cacheSize - 1])) return;
+                if (node.topSize == node.top.length) {
+                    node.top = Arrays.copyOf(node.top, Math.min(cacheSize, Math.max(2, node.topSize * 2)));
+                }
+                pos = node.topSize < cacheSize ? node.topSize++ : cacheSize - 1;
+                node.top[pos] = id;
+            }
+            while (pos > 0 && better(id, node.top[pos - 1])) {
+                node.top[pos] = node.top[pos - 1];
+                pos--;
+            }
+            node.top[pos] = id;
+        }
+    }
+
+    private void lowered(Node[] path, int id) {
+        for (int d = path.length - 1; d >= 0; d--) {
+            Node node = path[d];
+            if (indexOf(node, id) < 0) return;
+            rebuild(node);
+        }
+    }
+
+    /** top[] = first K of: own word (if present) ∪ children's top[] lists. */
+    private void rebuild(Node node) {
+        Node[] lists = new Node[26];
+        int[] head = new int[26];
+        int m = 0;
+        for (Node child : node.children) if (child != null && child.topSize > 0) lists[m++] = child;
+        int own = node.endCount > 0 ? node.wordId : -1;
+
+        int size = 0;
+        int[] top = node.top.length == cacheSize ? node.top : new int[cacheSize];
+        while (size < cacheSize) {
+            int best = own, from = -1;
+            for (int j = 0; j < m; j++) {
+                if (head[j] == lists[j].topSize) continue;
+                int cand = lists[j].top[head[j]];
+                if (best < 0 || better(cand, best)) { best = cand; from = j; }
+            }
+            if (best < 0) break;
+            if (from < 0) own = -1; else head[from]++;
+            top[size++] = best;
+        }
+        node.top = top;
+        node.topSize = size;
+    }
+
+    private boolean better(int a, int b) {
+        if (weight[a] != weight[b]) return weight[a] > weight[b];
+        return words[a].compareTo(words[b]) < 0;
+    }
+
+    private static int indexOf(Node node, int id) {
+        for (int i = 0; i < node.topSize; i++) if (node.top[i] == id) return i;
+        return -1;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * HELPERS
+     * -----------------------------------------------------
+     */
+    private int newId(String word) {
+        if (wordCount == words.length) {
+            words = Arrays.copyOf(words, wordCount * 2);
+            weight = Arrays.copyOf(weight, wordCount * 2);
+        }
+        words[wordCount] = word;
+        return wordCount++;
+    }
+
+    /** Nodes root .. end of a present word, or null. */
+    private Node[] path(String word) {
+        Node[] path = new Node[word.length() + 1];
+        Node cur = root;
+        path[0] = cur;
+        for (int i = 0; i < word.length(); i++) {
+            int idx = word.charAt(i) - 'a';
+            if (idx < 0 || idx >= 26 || cur.children[idx] == null) return null;
+            cur = cur.children[idx];
+            path[i + 1] = cur;
+        }
+        return cur.endCount > 0 ? path : null;
+    }
+
+    private Node traverse(String s) {
+        Node cur = root;
+        for (int i = 0; i < s.length(); i++) {
+            int idx = s.charAt(i) - 'a';
+            if (idx < 0 || idx >= 26) return null;
+            if (cur.children[idx] == null) return null;
+            cur = cur.children[idx];
+        }
+        return cur;
+    }
+
+    private static int index(String word, int i) {
+        char ch = word.charAt(i);
+        if (ch < 'a' || ch > 'z') throw new IllegalArgumentException("unsupported char '" + ch + "' in " + word);
+        return ch - 'a';
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / BASIC TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Top-K Autocomplete Trie ===\n");
+
+        AutocompleteTrie ac = new AutocompleteTrie(3);
+        for (String w : new String[]{"apple", "apple", "apple", "app", "app", "apply", "apt", "banana"}) ac.insert(w);
+        System.out.println(ac.topK("ap", 3));   // [apple, app, apply]
+        ac.setWeight("apt", 10);
+        System.out.println(ac.topK("ap", 3));   // [apt, apple, app]
+        ac.erase("apple");
+        ac.erase("apple");
+        System.out.println(ac.topK("ap", 3));   // [apt, app, apple]
+        System.out.println(ac.topK("", 2));     // [apt, app]
+
+        // Random inserts / erases / weight changes against a brute-force ranking
+        Random rnd = new Random(11);
+        int k = 5, mismatches = 0;
+        AutocompleteTrie trie = new AutocompleteTrie(k);
+        Map<String, Long> live = new HashMap<>(), weights = new HashMap<>();
+        String[] vocab = new String[300];
+        for (int i = 0; i < vocab.length; i++) {
+            char[] w = new char[1 + rnd.nextInt(5)];
+            for (int j = 0; j < w.length; j++) w[j] = (char) ('a' + rnd.nextInt(3));
+            vocab[i] = new String(w);
+        }
+        for (int op = 0; op < 100_000; op++) {
+            String w = vocab[rnd.nextInt(vocab.length)];
+            int kind = rnd.nextInt(10);
+            if (kind < 5) {
+                trie.insert(w);
+                live.merge(w, 1L, Long::sum);
+                weights.merge(w, 1L, Long::sum);
+            } else if (kind < 8) {
+                trie.erase(w);
+                if (live.containsKey(w)) {
+                    weights.merge(w, -1L, Long::sum);
+                    if (live.merge(w, -1L, Long::sum) == 0) live.remove(w);
+                }
+            } else {
+                long nw = rnd.nextInt(20);
+                if (trie.setWeight(w, nw)) weights.put(w, nw);
+            }
+            String p = w.substring(0, rnd.nextInt(w.length() + 1));
+            List<String> expected = new ArrayList<>();
+            for (String s : live.keySet()) if (s.startsWith(p)) expected.add(s);
+            expected.sort((a, b) -> !weights.get(a).equals(weights.get(b))
+                    ? Long.compare(weights.get(b), weights.get(a)) : a.compareTo(b));
+            if (!trie.topK(p, k).equals(expected.subList(0, Math.min(k, expected.size())))) mismatches++;
+        }
+        System.out.println("Random ops vs brute force: " + mismatches + " mismatches");
+    }
+}
@@ -0,0 +1,283 @@
+package Tries;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * =========================================================
+ * CONCURRENT TRIE (LOCK-FREE READS, CAS INSERTS)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * Trie and TrieII are single-threaded: a writer racing with a
+ * reader can lose a freshly created child (two threads both see
+ * children[c] == null and both assign) or lose count updates.
+ * Wrapping them in a lock serializes every autocomplete lookup
+ * behind every dictionary update.
+ *
+ * ---------------------------------------------------------
+ * 2. IDEA
+ * ---------------------------------------------------------
+ * Node {
+ *   AtomicReferenceArray<Node>(26) children
+ *   LongAdder  prefixCount   → striped, many writers near root
+ *   AtomicLong endCount      → needs "decrement if > 0"
+ * }
+ *
+ * insert(word):
+ *   - child missing → build a new node, compareAndSet(idx,
+ *     null, node); if another thread won, continue with ITS node
+ *   - prefixCount.increment() on every node of the path,
+ *     root included (the hottest counter: LongAdder stripes it)
+ *   - endCount.incrementAndGet() at the last node
+ *
+ * erase(word):
+ *   - first CLAIM one copy: CAS endCount from c to c - 1 while
+ *     c > 0 (a LongAdder cannot do this, hence AtomicLong here)
+ *   - then decrement prefixCount along the path
+ *   - two erases of a single copy: exactly one wins and
+ *     returns true
+ *
+ * Reads never lock and never allocate: they follow volatile
+ * child references. Nodes are never unlinked (like TrieII, erase
+ * only decrements), so a reader can never land on a detached
+ * node.
+ *
+ * ---------------------------------------------------------
+ * 3. CONSISTENCY
+ * ---------------------------------------------------------
+ * - Every completed insert / erase is visible to later reads.
+ * - LongAdder.sum() is not an atomic snapshot: while updates
+ *   are in flight, countWordsStartingWith may count an insert
+ *   whose endCount is not bumped yet (or the reverse). Once
+ *   writers are quiet, all counts are exact.
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let L = length of word
+ * insert / erase / count → O(L), lock-free
+ * Space → O(N × alphabet) references, like TrieII
+ *
+ * =========================================================
+ */
+
+public class ConcurrentTrie {
+
+    private static final class Node {
+        final AtomicReferenceArray<Node> children = new AtomicReferenceArray<>(26);
+        final LongAdder prefixCount = new LongAdder();
+        final AtomicLong endCount = new AtomicLong();
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * -----------------------------------------------------
+     * WRITES
+     * -----------------------------------------------------
+     */
+    public void insert(String word) {
+        // validate first: a half-counted path would stay visible to every reader
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') throw new IllegalArgumentException("unsupported char '" + c + "' in " + word);
+        }
+        Node cur = root;
+        cur.prefixCount.increment();
+        for (int i = 0; i < word.length(); i++) {
+            int idx = word.charAt(i) - 'a';
+            Node next = cur.children.get(idx);
+            if (next == null) {
+                Node created = new Node();
+                next = cur.children.compareAndSet(idx, null, created) ? created : cur.children.get(idx);
+            }
+            cur = next;
+            cur.prefixCount.increment();
+        }
+        cur.endCount.incrementAndGet();
+    }
+
+    /** Removes one copy of word; returns false (and does nothing) if none is present. */
+    public boolean erase(String word) {
+        Node last = traverse(word);
+        if (last == null) return false;
+        long c;
+        do {
+            c = last.endCount.get();
+            if (c == 0) return false;
+        } while (!last.endCount.compareAndSet(c, c - 1));
+
+        Node cur = root;
+        cur.prefixCount.decrement();
+        for (int i = 0; i < word.length(); i++) {
+            cur = cur.children.get(word.charAt(i) - 'a');
+            cur.prefixCount.decrement();
+        }
+        return true;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * READS (never block)
+     * -----------------------------------------------------
+     */
+    public long countWordsEqualTo(String word) {
+        Node node = traverse(word);
+        return node == null ? 0 : node.endCount.get();
+    }
+
+    public long countWordsStartingWith(String prefix) {
+        Node node = traverse(prefix);
+        return node == null ? 0 : node.prefixCount.sum();
+    }
+
+    public boolean search(String word) {
+        return countWordsEqualTo(word) > 0;
+    }
+
+    public boolean startsWith(String prefix) {
+        return countWordsStartingWith(prefix) > 0;
+    }
+
+    private Node traverse(String s) {
+        Node cur = root;
+        for (int i = 0; i < s.length() && cur != null; i++) {
+            int idx = s.charAt(i) - 'a';
+            if (idx < 0 || idx >= 26) return null;
+            cur = cur.children.get(idx);
+        }
+        return cur;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / STRESS TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) throws Exception {
+
+        System.out.println("=== Concurrent Trie ===\n");
+
+        ConcurrentTrie trie = new ConcurrentTrie();
+        trie.insert("apple");
+        trie.insert("apple");
+        trie.insert("app");
+        System.out.println(trie.countWordsEqualTo("apple"));    // 2
+        System.out.println(trie.countWordsStartingWith("app")); // 3
+        trie.erase("apple");
+        trie.erase("apricot");                                  // absent: no-op
+        System.out.println(trie.countWordsEqualTo("apple"));    // 1
+        try {
+            trie.insert("apPle");
+        } catch (IllegalArgumentException e) {
+            System.out.println("rejected: " + e.getMessage());
+        }
+        System.out.println(trie.countWordsStartingWith(""));    // 2, nothing counted for the rejected word
+        System.out.println(trie.countWordsStartingWith("app")); // 2
+
+        // Stress: writers insert and erase random words, readers query all the time.
+        // Every writer logs its net effect; at the end the trie must match a TrieII
+        // replaying the same net multiset single-threaded.
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int opsPerThread = 200_000;
+        String[] vocab = new String[2_000];
+        Random seed = new Random(3);
+        for (int i = 0; i < vocab.length; i++) {
+            char[] w = new char[1 + seed.nextInt(6)];
+            for (int j = 0; j < w.length; j++) w[j] = (char) ('a' + seed.nextInt(4));
+            vocab[i] = new String(w);
+        }
+
+        ConcurrentTrie shared = new ConcurrentTrie();
+        ConcurrentHashMap<String, LongAdder> net = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        AtomicLong negativeReads = new AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            results.add(pool.submit(() -> {
+                Random rnd = new Random(100 + id);
+                go.await();
+                long reads = 0;
+                for (int op = 0; op < opsPerThread; op++) {
+                    String w = vocab[rnd.nextInt(vocab.length)];
+                    int kind = rnd.nextInt(10);
+                    if (id % 2 == 1 || kind >= 3) {          // odd threads are pure readers
+                        if (shared.countWordsStartingWith(w) < 0 || shared.countWordsEqualTo(w) < 0) {
+                            negativeReads.incrementAndGet();
+                        }
+                        reads++;
+                    } else if (kind >= 1) {
+                        shared.insert(w);
+                        net.computeIfAbsent(w, k -> new LongAdder()).increment();
+                    } else if (shared.erase(w)) {
+                        net.computeIfAbsent(w, k -> new LongAdder()).decrement();
+                    }
+                }
+                return reads;
+            }));
+        }
+        long t0 = System.nanoTime();
+        go.countDown();
+        long reads = 0;
+        for (Future<Long> f : results) reads += f.get();
+        long t1 = System.nanoTime();
+        pool.shutdown();
+
+        TrieII ref = new TrieII();
+        net.forEach((w, c) -> { for (long k = c.sum(); k > 0; k--) ref.insert(w); });
+        int mismatches = 0;
+        for (String w : vocab) {
+            if (shared.countWordsEqualTo(w) != ref.countWordsEqualTo(w)) mismatches++;
+            if (shared.countWordsStartingWith(w) != ref.countWordsStartingWith(w)) mismatches++;
+        }
+        System.out.printf("%d threads, %d ops (%d reads) in %.0f ms: %d mismatches, %d negative reads%n",
+                threads, (long) threads * opsPerThread, reads, (t1 - t0) / 1e6, mismatches, negativeReads.get());
+
+        // Read/write mix (95% reads): lock-free trie vs a TrieII behind one lock
+        TrieII locked = new TrieII();
+        ConcurrentTrie lockFree = new ConcurrentTrie();
+        for (String w : vocab) { locked.insert(w); lockFree.insert(w); }
+        for (int round = 0; round < 3; round++) {   // later rounds run JIT-compiled
+            double a = mixThroughput(threads, vocab, w -> lockFree.countWordsStartingWith(w), lockFree::insert);
+            double b = mixThroughput(threads, vocab,
+                    w -> { synchronized (locked) { return locked.countWordsStartingWith(w); } },
+                    w -> { synchronized (locked) { locked.insert(w); } });
+            System.out.printf("round %d: lock-free %.0f ops/ms, synchronized TrieII %.0f ops/ms%n", round, a, b);
+        }
+    }
+
+    private static double mixThroughput(int threads, String[] vocab,
+                                        java.util.function.ToLongFunction<String> read,
+                                        java.util.function.Consumer<String> write) throws Exception {
+        int ops = 300_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Long>> sinks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            sinks.add(pool.submit(() -> {
+                Random rnd = new Random(id);
+                go.await();
+                long sink = 0;
+                for (int op = 0; op < ops; op++) {
+                    String w = vocab[rnd.nextInt(vocab.length)];
+                    if (rnd.nextInt(20) == 0) write.accept(w);
+                    else sink += read.applyAsLong(w);
+                }
+                return sink;
+            }));
+        }
+        long t0 = System.nanoTime();
+        go.countDown();
+        for (Future<Long> f : sinks) f.get();
+        long t1 = System.nanoTime();
+        pool.shutdown();
+        return (double) threads * ops / ((t1 - t0) / 1e6);
+    }
+}
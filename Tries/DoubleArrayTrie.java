@@ -0,0 +1,403 @@
+package Tries;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * =========================================================
+ * DOUBLE-ARRAY TRIE (BASE / CHECK) — COMPACT TRIE & TRIE-II
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * Trie and TrieII allocate a Node object plus a Node[26] array
+ * for EVERY character of the dictionary:
+ *
+ *   ~16 bytes object + ~120 bytes array (compressed oops)
+ *
+ * and almost all of the 26 slots stay null. A lexicon with tens
+ * of millions of words does not fit in the heap that way.
+ *
+ * ---------------------------------------------------------
+ * 2. THE DOUBLE ARRAY
+ * ---------------------------------------------------------
+ * Every trie node is an index s into parallel int arrays.
+ * A transition on character code c (a = 1 ... z = 26) is:
+ *
+ *   t = base[s] + c      valid  ⇔  check[t] == s
+ *
+ * So the children of s live at base[s] + c, and check[] says
+ * who owns each slot. Different nodes interleave their children
+ * in the same arrays; the only rule is that two children never
+ * claim the same slot.
+ *
+ * Per node we store 4 ints = 16 bytes:
+ *   base, check, prefixCount, endCount   (TrieII counters)
+ *
+ * ---------------------------------------------------------
+ * 3. INSERT (DYNAMIC)
+ * ---------------------------------------------------------
+ * - slot base[s] + c free         → take it
+ * - slot owned by someone else    → RELOCATE s: find a new base
+ *   where all old children + c fit, move the children (and point
+ *   their own children's check[] at the new slots)
+ *
+ * ---------------------------------------------------------
+ * 4. BULK BUILD (SORTED INPUT)
+ * ---------------------------------------------------------
+ * With sorted words, the children of every node are known before
+ * the node is placed, so each node gets its final base once and
+ * nothing is ever relocated. Free slots are searched from
+ * nextCheckPos, which skips regions that are ≥ 95% full.
+ *
+ * ---------------------------------------------------------
+ * 5. SEMANTICS
+ * ---------------------------------------------------------
+ * insert / search / startsWith              → as Trie
+ * countWordsEqualTo / countWordsStartingWith
+ * / erase                                   → as TrieII
+ * Differences: erase of a word that is not present does nothing,
+ * nodes whose prefixCount drops to 0 are released, and the empty
+ * prefix counts every word.
+ *
+ * ---------------------------------------------------------
+ * 6. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Lookups        : O(L), one array read pair per character
+ * Insert         : O(L), plus O(26 × children moved) on relocation
+ * Bulk build     : O(total characters) plus free-slot scanning
+ * Space          : 16 bytes × array capacity (≈ nodes after build)
+ *
+ * =========================================================
+ */
+
+public class DoubleArrayTrie {
+
+    private static final int ALPHABET = 26;
+    private static final int FREE = -1;
+    private static final int ROOT = 0;
+
+    // assumed JVM layout for the pointer-trie estimate (64-bit, compressed oops)
+    private static final int POINTER_NODE_BYTES = 24;                          // header + fields, padded
+    private static final int POINTER_CHILDREN_BYTES = 16 + 4 * ALPHABET;       // Node[26]
+
+    private int[] base, check, prefix, end;
+    private int size;          // one past the highest slot ever used
+    private int states;        // occupied slots
+    private int nextCheckPos = 1;
+
+    public DoubleArrayTrie() {
+        this(1024);
+    }
+
+    private DoubleArrayTrie(int capacity) {
+        base = new int[capacity];
+        check = new int[capacity];
+        prefix = new int[capacity];
+        end = new int[capacity];
+        Arrays.fill(check, FREE);
+        check[ROOT] = ROOT;
+        size = 1;
+        states = 1;
+    }
+
+    /**
+     * Builds the trie from words in ascending order (duplicates allowed and counted).
+     *
+     * @throws IllegalArgumentException if the words are not sorted or contain chars outside 'a'..'z'
+     */
+    public static DoubleArrayTrie build(String[] sortedWords) {
+        for (int i = 0; i < sortedWords.length; i++) {
+            validate(sortedWords[i]);
+            if (i > 0 && sortedWords[i - 1].compareTo(sortedWords[i]) > 0) {
+                throw new IllegalArgumentException("words not sorted at index " + i);
+            }
+        }
+        DoubleArrayTrie t = new DoubleArrayTrie(Math.max(1024, sortedWords.length * 2));
+        t.build(sortedWords, ROOT, 0, sortedWords.length, 0);
+        t.trimToSize();
+        return t;
+    }
+
+    /** Places the children of s, the node for the common prefix of words[lo, hi) of length depth. */
+    private void build(String[] words, int s, int lo, int hi, int depth) {
+        prefix[s] = hi - lo;
+        int i = lo;
+        while (i < hi && words[i].length() == depth) { end[s]++; i++; }  // sorted: the prefix itself comes first
+        if (i == hi) return;
+
+        int[] codes = new int[ALPHABET];
+        int[] from = new int[ALPHABET + 1];
+        int k = 0;
+        while (i < hi) {
+            int c = code(words[i].charAt(depth));
+            codes[k] = c;
+            from[k++] = i;
+            while (i < hi && code(words[i].charAt(depth)) == c) i++;
+        }
+        from[k] = hi;
+
+        int b = findBase(codes, k);
+        base[s] = b;
+        for (int j = 0; j < k; j++) occupy(b + codes[j], s);
+        for (int j = 0; j < k; j++) build(words, b + codes[j], from[j], from[j + 1], depth + 1);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * TRIE API
+     * -----------------------------------------------------
+     */
+    public void insert(String word) {
+        validate(word);
+        int s = ROOT;
+        prefix[ROOT]++;
+        for (int i = 0; i < word.length(); i++) {
+            int c = code(word.charAt(i));
+            int t = child(s, c);
+            s = t >= 0 ? t : addChild(s, c);
+            prefix[s]++;
+        }
+        end[s]++;
+    }
+
+    public boolean search(String word) {
+        int s = walk(word);
+        return s >= 0 && end[s] > 0;
+    }
+
+    public boolean startsWith(String prefix) {
+        return walk(prefix) >= 0;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * TRIE-II API
+     * -----------------------------------------------------
+     */
+    public int countWordsEqualTo(String word) {
+        int s = walk(word);
+        return s < 0 ? 0 : end[s];
+    }
+
+    public int countWordsStartingWith(String p) {
+        int s = walk(p);
+        return s < 0 ? 0 : prefix[s];
+    }
+
+    /** Removes one occurrence of word if present; nodes no word passes through any more are released. */
+    public void erase(String word) {
+        if (countWordsEqualTo(word) == 0) return;
+        int s = ROOT;
+        prefix[ROOT]--;
+        for (int i = 0; i < word.length(); i++) {
+            int t = child(s, code(word.charAt(i)));
+            if (--prefix[t] == 0) {
+                // the rest of the path is used only by this word: release it
+                release(word, i, t);
+                return;
+            }
+            s = t;
+        }
+        end[s]--;
+    }
+
+    private void release(String word, int i, int t) {
+        while (true) {
+            int next = i + 1 < word.length() ? child(t, code(word.charAt(i + 1))) : -1;
+            check[t] = FREE;
+            base[t] = prefix[t] = end[t] = 0;
+            states--;
+            if (next < 0) return;
+            t = next;
+            i++;
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * MEMORY REPORT
+     * -----------------------------------------------------
+     */
+    public int stateCount() { return states; }
+
+    /** Bytes held by the four int arrays. */
+    public long memoryBytes() { return 4L * (16 + 4L * base.length); }
+
+    /** Estimated bytes of Trie / TrieII for the same number of nodes (Node + Node[26] each). */
+    public static long pointerTrieBytes(long nodes) {
+        return nodes * (POINTER_NODE_BYTES + POINTER_CHILDREN_BYTES);
+    }
+
+    public String memoryReport() {
+        long mine = memoryBytes(), pointer = pointerTrieBytes(states);
+        return String.format("%d nodes, capacity %d (%.1f%% used): double array %,d bytes vs pointer trie ~%,d bytes (%.1fx)",
+                states, base.length, 100.0 * states / base.length, mine, pointer, (double) pointer / mine);
+    }
+
+    /** Shrinks the arrays to the highest used slot (a later insert grows them again). */
+    public void trimToSize() {
+        int n = Math.max(size, ALPHABET + 1);
+        base = Arrays.copyOf(base, n);
+        check = Arrays.copyOf(check, n);
+        prefix = Arrays.copyOf(prefix, n);
+        end = Arrays.copyOf(end, n);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * INTERNALS
+     * -----------------------------------------------------
+     */
+    private static int code(char ch) { return ch - 'a' + 1; }
+
+    private static void validate(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char ch = word.charAt(i);
+            if (ch < 'a' || ch > 'z') throw new IllegalArgumentException("unsupported char '" + ch + "' in " + word);
+        }
+    }
+
+    private int child(int s, int c) {
+        int t = base[s] + c;
+        return t < size && check[t] == s && t != ROOT ? t : -1;
+    }
+
+    /** State for the string, or -1 if it is not a prefix of any word (or has a char outside 'a'..'z'). */
+    private int walk(String str) {
+        int s = ROOT;
+        for (int i = 0; i < str.length() && s >= 0; i++) {
+            char ch = str.charAt(i);
+            if (ch < 'a' || ch > 'z') return -1;
+            s = child(s, code(ch));
+        }
+        return s;
+    }
+
+    private void occupy(int t, int parent) {
+        ensureCapacity(t + 1);
+        check[t] = parent;
+        base[t] = prefix[t] = end[t] = 0;
+        states++;
+        if (t >= size) size = t + 1;
+    }
+
+    private int addChild(int s, int c) {
+        int t = base[s] + c;
+        ensureCapacity(t + 1);
+        if (check[t] == FREE) {
+            occupy(t, s);
+            return t;
+        }
+
+        // slot taken: move all children of s to a base where they and c fit
+        int[] codes = new int[ALPHABET];
+        int k = 0;
+        for (int cc = 1; cc <= ALPHABET; cc++) {
+            if (cc == c || child(s, cc) >= 0) codes[k++] = cc;
+        }
+        int oldBase = base[s];
+        int b = findBase(codes, k);
+        for (int j = 0; j < k; j++) {
+            if (codes[j] == c) continue;
+            int from = oldBase + codes[j], to = b + codes[j];
+            ensureCapacity(to + 1);
+            check[to] = s;
+            base[to] = base[from];
+            prefix[to] = prefix[from];
+            end[to] = end[from];
+            if (to >= size) size = to + 1;
+            for (int g = 1; g <= ALPHABET; g++) {
+                int gi = child(from, g);
+                if (gi >= 0) check[gi] = to;
+            }
+            check[from] = FREE;
+            base[from] = prefix[from] = end[from] = 0;
+        }
+        base[s] = b;
+        occupy(b + c, s);
+        return b + c;
+    }
+
+    /** Smallest base (from nextCheckPos on) where every codes[0..k) slot is free. codes is ascending. */
+    private int findBase(int[] codes, int k) {
+        int pos = Math.max(codes[0] + 1, nextCheckPos) - 1;
+        int occupied = 0;
+        boolean first = true;
+        int b;
+        outer:
+        while (true) {
+            pos++;
+            ensureCapacity(pos + 1);
+            if (check[pos] != FREE) {
+                occupied++;
+                continue;
+            } else if (first) {
+                nextCheckPos = pos;
+                first = false;
+            }
+            b = pos - codes[0];
+            ensureCapacity(b + codes[k - 1] + 1);
+            for (int j = 1; j < k; j++) {
+                if (check[b + codes[j]] != FREE) continue outer;
+            }
+            break;
+        }
+        if (occupied >= 0.95 * (pos - nextCheckPos + 1)) nextCheckPos = pos;
+        return b;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= base.length) return;
+        int cap = Math.max(n, base.length + (base.length >> 1));
+        int old = base.length;
+        base = Arrays.copyOf(base, cap);
+        check = Arrays.copyOf(check, cap);
+        prefix = Arrays.copyOf(prefix, cap);
+        end = Arrays.copyOf(end, cap);
+        Arrays.fill(check, old, cap, FREE);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / BASIC TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Double-Array Trie ===\n");
+
+        DoubleArrayTrie trie = new DoubleArrayTrie();
+        trie.insert("apple");
+        System.out.println(trie.search("apple"));   // true
+        System.out.println(trie.search("app"));     // false
+        System.out.println(trie.startsWith("app")); // true
+        trie.insert("app");
+        System.out.println(trie.search("app"));     // true
+
+        trie.insert("apple");
+        System.out.println(trie.countWordsEqualTo("apple"));    // 2
+        System.out.println(trie.countWordsStartingWith("app")); // 3
+        trie.erase("apple");
+        System.out.println(trie.countWordsEqualTo("apple"));    // 1
+        System.out.println(trie.countWordsStartingWith("app")); // 2
+
+        // bulk build of a random lexicon
+        int n = 1_000_000;
+        Random rnd = new Random(1);
+        String[] words = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] w = new char[3 + rnd.nextInt(8)];
+            for (int j = 0; j < w.length; j++) w[j] = (char) ('a' + Math.min(25, (int) (Math.abs(rnd.nextGaussian()) * 6)));
+            words[i] = new String(w);
+        }
+        Arrays.sort(words);
+        long t0 = System.nanoTime();
+        DoubleArrayTrie big = build(words);
+        long t1 = System.nanoTime();
+        System.out.printf("%nBulk build of %,d words in %.0f ms%n", n, (t1 - t0) / 1e6);
+        System.out.println(big.memoryReport());
+        System.out.println("Words starting with \"abc\": " + big.countWordsStartingWith("abc"));
+    }
+}
@@ -0,0 +1,211 @@
+package Tries;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * FLAT-ARRAY BINARY XOR TRIE (WITH SUBTREE MINIMUM)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * MaximumXORInArray and MaximumXORWithElement allocate one Node
+ * object (with two references) per bit per number: up to 31
+ * objects for every inserted integer, scattered over the heap.
+ *
+ * ---------------------------------------------------------
+ * 2. LAYOUT
+ * ---------------------------------------------------------
+ * Nodes are ints; node 0 is the root.
+ *
+ *   next[2 × node + bit] → child on that bit (0 = none; the
+ *                          root is never a child)
+ *   min[node]            → smallest number in the subtree
+ *
+ * Both arrays are allocated ONCE from the expected number of
+ * inserts: at most 1 + 31 × n nodes.
+ *
+ * Numbers must be non-negative (as in both problems), so 31
+ * bits (30 .. 0) suffice.
+ *
+ * ---------------------------------------------------------
+ * 3. QUERIES
+ * ---------------------------------------------------------
+ * maxXor(x):
+ *   - at every bit prefer the child with the OPPOSITE bit
+ *
+ * maxXor(x, limit)   (only numbers ≤ limit) — ONLINE:
+ *   - prefer the opposite child only if min[child] ≤ limit;
+ *     some number below it then qualifies, and since all
+ *     numbers below share the path so far, the greedy stays
+ *     correct
+ *   - min[root] > limit → -1
+ *
+ * maximizeXor(nums, queries) — OFFLINE:
+ *   - sort nums, sort queries by limit as packed longs
+ *     (limit << 32 | index: no int[][] or Comparator)
+ *   - insert numbers ≤ limit incrementally, answer with
+ *     the plain maxXor
+ *
+ * For max XOR over an index range nums[l..r] see
+ * PersistentXorTrie.
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * insert / maxXor          → O(31)
+ * offline queries          → O((N + Q) × 31 + N log N + Q log Q)
+ * Space                    → 3 ints per node, 1 + 31 × N nodes
+ *
+ * =========================================================
+ */
+
+public class FlatXorTrie {
+
+    private static final int BITS = 31;
+
+    private final int[] next;
+    private final int[] min;
+    private int nodes = 1;
+
+    /** @param capacity how many numbers will be inserted at most */
+    public FlatXorTrie(int capacity) {
+        int maxNodes = 1 + BITS * Math.max(1, capacity);
+        next = new int[2 * maxNodes];
+        min = new int[maxNodes];
+        min[0] = Integer.MAX_VALUE;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * INSERT
+     * -----------------------------------------------------
+     */
+    public void insert(int num) {
+        if (num < 0) throw new IllegalArgumentException("negative number " + num);
+        int cur = 0;
+        min[0] = Math.min(min[0], num);
+        for (int bit = BITS - 1; bit >= 0; bit--) {
+            int slot = (cur << 1) | ((num >>> bit) & 1);
+            if (next[slot] == 0) {
+                next[slot] = nodes;
+                min[nodes++] = num;
+            }
+            cur = next[slot];
+            if (num < min[cur]) min[cur] = num;
+        }
+    }
+
+    public boolean isEmpty() {
+        return nodes == 1;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * QUERIES
+     * -----------------------------------------------------
+     */
+
+    /** Max of x ^ num over inserted nums, or -1 if none. */
+    public int maxXor(int x) {
+        return maxXor(x, Integer.MAX_VALUE);
+    }
+
+    /** Max of x ^ num over inserted nums ≤ limit, or -1 if none. */
+    public int maxXor(int x, int limit) {
+        if (nodes == 1 || min[0] > limit) return -1;
+        int cur = 0, ans = 0;
+        for (int bit = BITS - 1; bit >= 0; bit--) {
+            int want = ((x >>> bit) & 1) ^ 1;
+            int child = next[(cur << 1) | want];
+            if (child != 0 && min[child] <= limit) {
+                ans |= 1 << bit;
+                cur = child;
+            } else {
+                cur = next[(cur << 1) | (want ^ 1)];
+            }
+        }
+        return ans;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * PROBLEM ENTRY POINTS
+     * -----------------------------------------------------
+     */
+
+    /** Same as MaximumXORInArray.findMaximumXOR. */
+    public static int findMaximumXOR(int[] nums) {
+        FlatXorTrie trie = new FlatXorTrie(nums.length);
+        int best = 0;
+        for (int x : nums) {
+            trie.insert(x);
+            best = Math.max(best, trie.maxXor(x));
+        }
+        return best;
+    }
+
+    /** Same as MaximumXORWithElement.maximizeXor: offline, queries sorted by limit. */
+    public static int[] maximizeXor(int[] nums, int[][] queries) {
+        int[] sorted = nums.clone();
+        Arrays.sort(sorted);
+        long[] order = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) order[i] = ((long) queries[i][1] << 32) | i;
+        Arrays.sort(order);
+
+        FlatXorTrie trie = new FlatXorTrie(sorted.length);
+        int[] res = new int[queries.length];
+        int idx = 0;
+        for (long packed : order) {
+            int qi = (int) packed;
+            int limit = queries[qi][1];
+            while (idx < sorted.length && sorted[idx] <= limit) trie.insert(sorted[idx++]);
+            res[qi] = trie.maxXor(queries[qi][0]);
+        }
+        return res;
+    }
+
+    /** Same answers, online: one trie of all nums, the limit enforced through min[]. */
+    public static int[] maximizeXorOnline(int[] nums, int[][] queries) {
+        FlatXorTrie trie = new FlatXorTrie(nums.length);
+        for (int x : nums) trie.insert(x);
+        int[] res = new int[queries.length];
+        for (int i = 0; i < queries.length; i++) res[i] = trie.maxXor(queries[i][0], queries[i][1]);
+        return res;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Flat-Array XOR Trie ===\n");
+
+        System.out.println(findMaximumXOR(new int[]{3, 10, 5, 25, 2, 8}));   // 28
+        int[] nums = {0, 1, 2, 3, 4};
+        int[][] queries = {{3, 1}, {1, 3}, {5, 6}};
+        System.out.println(Arrays.toString(maximizeXor(nums, queries)));        // [3, 3, 7]
+        System.out.println(Arrays.toString(maximizeXorOnline(nums, queries)));  // [3, 3, 7]
+
+        Random rnd = new Random(6);
+        int n = 200_000, q = 200_000;
+        int[] big = new int[n];
+        for (int i = 0; i < n; i++) big[i] = rnd.nextInt(1_000_000_000);
+        int[][] bigQueries = new int[q][];
+        for (int i = 0; i < q; i++) bigQueries[i] = new int[]{rnd.nextInt(1_000_000_000), rnd.nextInt(1_000_000_000)};
+
+        long t0 = System.nanoTime();
+        int[] expected = new MaximumXORWithElement().maximizeXor(big.clone(), bigQueries);
+        long t1 = System.nanoTime();
+        int[] offline = maximizeXor(big, bigQueries);
+        long t2 = System.nanoTime();
+        int[] online = maximizeXorOnline(big, bigQueries);
+        long t3 = System.nanoTime();
+        System.out.printf("%d nums, %d queries: node trie %.0f ms, flat offline %.0f ms (same: %b), flat online %.0f ms (same: %b)%n",
+                n, q, (t1 - t0) / 1e6, (t2 - t1) / 1e6, Arrays.equals(expected, offline),
+                (t3 - t2) / 1e6, Arrays.equals(expected, online));
+    }
+}
@@ -67,6 +67,9 @@ package Tries;
  * Store numbers in a Binary Trie and greedily choose
  * opposite bits to maximize XOR.
  *
+ * FlatXorTrie keeps the same trie in preallocated int arrays
+ * (no Node objects).
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
@@ -87,6 +87,10 @@ import java.util.*;
  * Sort queries by constraint and insert valid numbers
  * incrementally into a Binary Trie to answer XOR queries.
  *
+ * FlatXorTrie does this on int arrays and can also answer
+ * online (subtree minimum); PersistentXorTrie handles index
+ * ranges instead of value limits.
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
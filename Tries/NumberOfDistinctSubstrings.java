@@ -76,6 +76,9 @@ package Tries;
  * Insert all suffixes into a Trie and count newly
  * created nodes to get number of distinct substrings.
  *
+ * Beyond a few thousand characters use SuffixAutomaton or
+ * strings.hard.SuffixArray: O(n) instead of O(n²).
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
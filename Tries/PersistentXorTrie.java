@@ -0,0 +1,148 @@
+package Tries;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * PERSISTENT XOR TRIE — MAX XOR OVER AN INDEX RANGE
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. PROBLEM
+ * ---------------------------------------------------------
+ * Given nums[0 .. n-1], answer many queries (l, r, x):
+ *
+ *   max of x ^ nums[i] for l ≤ i ≤ r
+ *
+ * One trie per range is far too much; one trie per PREFIX is
+ * enough if the prefixes share structure.
+ *
+ * ---------------------------------------------------------
+ * 2. IDEA: VERSIONS THAT SHARE NODES
+ * ---------------------------------------------------------
+ * Version i = trie of nums[0 .. i-1].
+ * Inserting nums[i] into version i copies only the 32 nodes on
+ * its path, root included (path copying); every other subtree
+ * is shared with version i.
+ *
+ * Each node stores cnt = how many numbers pass through it.
+ * Numbers of nums[l..r] below a node =
+ *
+ *   cnt[node in version r+1] - cnt[node in version l]
+ *
+ * so walking both versions side by side and preferring the
+ * opposite bit whenever that difference is > 0 gives the
+ * range answer.
+ *
+ * ---------------------------------------------------------
+ * 3. LAYOUT
+ * ---------------------------------------------------------
+ * Flat arrays as in FlatXorTrie: next[2 × node + bit], cnt[node].
+ * Node 0 is the EMPTY trie: cnt 0, both children 0 — a missing
+ * child then needs no special case.
+ * roots[i] = root of version i (roots[0] = 0).
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Build: O(n × 31), 1 + 32 × n nodes, 3 ints each
+ * Query: O(31)
+ *
+ * =========================================================
+ */
+
+public class PersistentXorTrie {
+
+    private static final int BITS = 31;
+
+    private final int[] next, cnt, roots;
+    private int nodes = 1;
+
+    /** Builds all n + 1 versions of nums (non-negative). */
+    public PersistentXorTrie(int[] nums) {
+        int maxNodes = 1 + (BITS + 1) * nums.length;
+        next = new int[2 * maxNodes];
+        cnt = new int[maxNodes];
+        roots = new int[nums.length + 1];
+        for (int i = 0; i < nums.length; i++) {
+            if (nums[i] < 0) throw new IllegalArgumentException("negative number " + nums[i] + " at " + i);
+            roots[i + 1] = insert(roots[i], nums[i]);
+        }
+    }
+
+    /** Copies the path of num in version `old`; returns the new root. */
+    private int insert(int old, int num) {
+        int root = copy(old);
+        int cur = root;
+        for (int bit = BITS - 1; bit >= 0; bit--) {
+            int slot = (cur << 1) | ((num >>> bit) & 1);
+            int child = copy(next[slot]);
+            next[slot] = child;
+            cur = child;
+        }
+        return root;
+    }
+
+    private int copy(int node) {
+        int c = nodes++;
+        next[2 * c] = next[2 * node];
+        next[2 * c + 1] = next[2 * node + 1];
+        cnt[c] = cnt[node] + 1;
+        return c;
+    }
+
+    /** Max of x ^ nums[i] over l ≤ i ≤ r, or -1 if the range is empty. */
+    public int maxXor(int l, int r, int x) {
+        if (l > r) return -1;
+        int hi = roots[r + 1], lo = roots[l];
+        int ans = 0;
+        for (int bit = BITS - 1; bit >= 0; bit--) {
+            int want = ((x >>> bit) & 1) ^ 1;
+            int h = next[(hi << 1) | want], g = next[(lo << 1) | want];
+            if (cnt[h] - cnt[g] > 0) {
+                ans |= 1 << bit;
+            } else {
+                want ^= 1;
+                h = next[(hi << 1) | want];
+                g = next[(lo << 1) | want];
+            }
+            hi = h;
+            lo = g;
+        }
+        return ans;
+    }
+
+    /** Number of versions (n + 1). */
+    public int versions() {
+        return roots.length;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Persistent XOR Trie ===\n");
+
+        int[] nums = {3, 10, 5, 25, 2, 8};
+        PersistentXorTrie trie = new PersistentXorTrie(nums);
+        System.out.println(trie.maxXor(0, 5, 5));   // 28 (5 ^ 25)
+        System.out.println(trie.maxXor(0, 2, 5));   // 15 (5 ^ 10)
+        System.out.println(trie.maxXor(4, 5, 8));   // 10 (8 ^ 2)
+
+        Random rnd = new Random(8);
+        int n = 2_000, mismatches = 0;
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) a[i] = rnd.nextInt(1 << 20);
+        PersistentXorTrie pt = new PersistentXorTrie(a);
+        for (int t = 0; t < 20_000; t++) {
+            int l = rnd.nextInt(n), r = l + rnd.nextInt(n - l), x = rnd.nextInt(1 << 21);
+            int best = -1;
+            for (int i = l; i <= r; i++) best = Math.max(best, x ^ a[i]);
+            if (pt.maxXor(l, r, x) != best) mismatches++;
+        }
+        System.out.println("Random ranges vs brute force: " + mismatches + " mismatches");
+    }
+}
@@ -0,0 +1,472 @@
+package Tries;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * =========================================================
+ * RADIX (PATRICIA) TRIE OVER UTF-8 BYTES
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * Trie maps a character to children[c - 'a'], so any key with
+ * an uppercase letter, digit, '/' or 'é' throws, and every
+ * character costs a node even along long runs that no other key
+ * branches from (URLs: "https://shop.example.com/products/...").
+ *
+ * ---------------------------------------------------------
+ * 2. IDEA
+ * ---------------------------------------------------------
+ * - Keys are encoded as UTF-8, so ANY string is allowed and
+ *   byte order == code point order (prefix iteration comes out
+ *   lexicographic).
+ * - Path compression: an edge carries a whole byte run; a node
+ *   exists only where keys branch or end.
+ * - Edge labels are (offset, length) slices of ONE shared byte
+ *   arena. Splitting an edge just splits the slice — no copy.
+ * - Children are kept sorted by the first byte of their label
+ *   (byte[] first + Node[] kids) and found by binary search.
+ *
+ * Example: "romane", "romanus", "rubens"
+ *
+ *        (root)
+ *          | "r"
+ *         [ ]
+ *     "om" /   \ "ubens"
+ *   "an" [ ]   (rubens)
+ *        |
+ *       [ ]
+ *   "e" /   \ "us"
+ * (romane) (romanus)
+ *
+ * ---------------------------------------------------------
+ * 3. OPERATIONS
+ * ---------------------------------------------------------
+ * put / get / containsKey / remove   → exact keys (with values)
+ * keysWithPrefix(p)                  → lazy, lexicographic
+ * longestPrefixOf(q)                 → longest stored key that
+ *                                      is a prefix of q (routing)
+ * remove merges a non-terminal node with its only child so the
+ * trie stays compressed; the merged label is appended to the
+ * arena unless the two slices are already adjacent. compact()
+ * rewrites the arena without the abandoned bytes.
+ *
+ * Unpaired surrogates are replaced by '?' by the UTF-8 encoder.
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let L = key length in bytes
+ * put / get / remove      → O(L + depth × log(fan-out))
+ * prefix iteration        → O(output bytes)
+ * Space                   → O(nodes + distinct label bytes)
+ *
+ * =========================================================
+ */
+
+public class RadixTrie<V> {
+
+    private static final byte[] NO_BYTES = new byte[0];
+
+    // generic array creation, the one unchecked spot in this file
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <V> Node<V>[] newNodes(int n) {
+        return new Node[n];
+    }
+
+    private static final class Node<V> {
+        int off, len;                   // label of the edge into this node: arena[off, off + len)
+        byte[] first = NO_BYTES;        // first label byte of each child, ascending (unsigned)
+        Node<V>[] kids = newNodes(0);
+        int kidCount;
+        boolean terminal;
+        V value;
+
+        Node(int off, int len) {
+            this.off = off;
+            this.len = len;
+        }
+    }
+
+    private final Node<V> root = new Node<>(0, 0);
+    private byte[] arena = new byte[256];
+    private int arenaSize;
+    private int size, nodes = 1;
+
+    /**
+     * -----------------------------------------------------
+     * EXACT KEYS
+     * -----------------------------------------------------
+     */
+
+    /** Associates value with key; returns the previous value (null if none). */
+    public V put(String key, V value) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        Node<V> node = root;
+        int i = 0;
+        while (i < k.length) {
+            int slot = find(node, k[i]);
+            if (slot < 0) {
+                Node<V> leaf = new Node<>(append(k, i, k.length - i), k.length - i);
+                addChild(node, -slot - 1, leaf);
+                nodes++;
+                node = leaf;
+                i = k.length;
+                break;
+            }
+            Node<V> child = node.kids[slot];
+            int common = match(child, k, i);
+            if (common < child.len) {
+                // split the edge: node -> mid (common part) -> child (rest)
+                Node<V> mid = new Node<>(child.off, common);
+                nodes++;
+                child.off += common;
+                child.len -= common;
+                node.kids[slot] = mid;
+                addChild(mid, 0, child);
+            }
+            node = node.kids[slot];
+            i += common;
+        }
+        V prev = node.value;
+        if (!node.terminal) { node.terminal = true; size++; }
+        node.value = value;
+        return prev;
+    }
+
+    /** Same as put(word, null), for Trie-style use. */
+    public void insert(String word) {
+        put(word, null);
+    }
+
+    public V get(String key) {
+        Node<V> node = exact(key.getBytes(StandardCharsets.UTF_8));
+        return node == null ? null : node.value;
+    }
+
+    public boolean containsKey(String key) {
+        Node<V> node = exact(key.getBytes(StandardCharsets.UTF_8));
+        return node != null && node.terminal;
+    }
+
+    public boolean search(String word) {
+        return containsKey(word);
+    }
+
+    public boolean startsWith(String prefix) {
+        return keysWithPrefix(prefix).hasNext();
+    }
+
+    /** Removes key; returns its value (null if absent). */
+    public V remove(String key) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        Node<V> parent = null, node = root;
+        int slotInParent = -1, i = 0;
+        while (i < k.length) {
+            int slot = find(node, k[i]);
+            if (slot < 0) return null;
+            Node<V> child = node.kids[slot];
+            if (match(child, k, i) < child.len) return null;
+            parent = node;
+            slotInParent = slot;
+            node = child;
+            i += child.len;
+        }
+        if (!node.terminal) return null;
+        V prev = node.value;
+        node.terminal = false;
+        node.value = null;
+        size--;
+
+        if (node == root) return prev;
+        if (node.kidCount == 0) {
+            removeChild(parent, slotInParent);
+            nodes--;
+            if (parent != root && !parent.terminal && parent.kidCount == 1) mergeWithOnlyChild(parent);
+        } else if (node.kidCount == 1) {
+            mergeWithOnlyChild(node);
+        }
+        return prev;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * -----------------------------------------------------
+     * PREFIX QUERIES
+     * -----------------------------------------------------
+     */
+
+    /** Lazily lists every key starting with prefix, in lexicographic (code point) order. */
+    public Iterator<String> keysWithPrefix(String prefix) {
+        byte[] p = prefix.getBytes(StandardCharsets.UTF_8);
+        Node<V> node = root;
+        int i = 0;
+        while (i < p.length) {
+            int slot = find(node, p[i]);
+            if (slot < 0) return Collections.emptyIterator();
+            Node<V> child = node.kids[slot];
+            int common = match(child, p, i);
+            if (common < child.len && i + common < p.length) return Collections.emptyIterator();
+            node = child;
+            i += child.len; // may run past p: the rest of this label is part of every key below
+        }
+        byte[] start = Arrays.copyOf(p, Math.max(i, p.length));
+        if (i > p.length) System.arraycopy(arena, node.off + node.len - (i - p.length), start, p.length, i - p.length);
+        return new PrefixIterator<>(this, node, start);
+    }
+
+    /** Longest stored key that is a prefix of query, or null if there is none. */
+    public String longestPrefixOf(String query) {
+        byte[] q = query.getBytes(StandardCharsets.UTF_8);
+        Node<V> node = root;
+        int i = 0, best = root.terminal ? 0 : -1;
+        while (i < q.length) {
+            int slot = find(node, q[i]);
+            if (slot < 0) break;
+            Node<V> child = node.kids[slot];
+            if (match(child, q, i) < child.len) break;
+            node = child;
+            i += child.len;
+            if (node.terminal) best = i;
+        }
+        return best < 0 ? null : new String(q, 0, best, StandardCharsets.UTF_8);
+    }
+
+    private static final class PrefixIterator<V> implements Iterator<String> {
+        private final RadixTrie<V> trie;
+        private byte[] buf;
+        private Node<V>[] stack;
+        private int[] cursor, keyLen;   // cursor -1: node itself not reported yet
+        private int sp;
+        private String next;
+
+        PrefixIterator(RadixTrie<V> trie, Node<V> start, byte[] key) {
+            this.trie = trie;
+            buf = Arrays.copyOf(key, Math.max(16, key.length * 2));
+            stack = newNodes(8);
+            cursor = new int[8];
+            keyLen = new int[8];
+            stack[0] = start;
+            cursor[0] = -1;
+            keyLen[0] = key.length;
+            sp = 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) next = advance();
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            String s = next;
+            next = null;
+            return s;
+        }
+
+        private String advance() {
+            while (sp > 0) {
+                int top = sp - 1;
+                Node<V> node = stack[top];
+                if (cursor[top] < 0) {
+                    cursor[top] = 0;
+                    if (node.terminal) return new String(buf, 0, keyLen[top], StandardCharsets.UTF_8);
+                }
+                if (cursor[top] == node.kidCount) {
+                    sp--;
+                    continue;
+                }
+                Node<V> kid = node.kids[cursor[top]++];
+                int len = keyLen[top] + kid.len;
+                if (len > buf.length) buf = Arrays.copyOf(buf, Math.max(len, buf.length * 2));
+                System.arraycopy(trie.arena, kid.off, buf, keyLen[top], kid.len);
+                if (sp == stack.length) {
+                    stack = Arrays.copyOf(stack, sp * 2);
+                    cursor = Arrays.copyOf(cursor, sp * 2);
+                    keyLen = Arrays.copyOf(keyLen, sp * 2);
+                }
+                stack[sp] = kid;
+                cursor[sp] = -1;
+                keyLen[sp++] = len;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * MAINTENANCE / STATS
+     * -----------------------------------------------------
+     */
+    public int nodeCount() { return nodes; }
+
+    public int arenaBytes() { return arenaSize; }
+
+    /** Rewrites the arena so it holds only the labels still in use. */
+    public void compact() {
+        byte[] old = arena;
+        arena = new byte[Math.max(256, arenaSize)];
+        arenaSize = 0;
+        Deque<Node<V>> todo = new ArrayDeque<>();
+        todo.push(root);
+        while (!todo.isEmpty()) {
+            Node<V> node = todo.pop();
+            int off = arenaSize;
+            ensureArena(node.len);
+            System.arraycopy(old, node.off, arena, off, node.len);
+            arenaSize += node.len;
+            node.off = off;
+            for (int j = 0; j < node.kidCount; j++) todo.push(node.kids[j]);
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * INTERNALS
+     * -----------------------------------------------------
+     */
+    private Node<V> exact(byte[] k) {
+        Node<V> node = root;
+        int i = 0;
+        while (i < k.length) {
+            int slot = find(node, k[i]);
+            if (slot < 0) return null;
+            Node<V> child = node.kids[slot];
+            if (match(child, k, i) < child.len) return null;
+            node = child;
+            i += child.len;
+        }
+        return node;
+    }
+
+    /** Index of the child whose label starts with b, or -(insertion point) - 1. */
+    private static int find(Node<?> node, byte b) {
+        int key = b & 0xFF, lo = 0, hi = node.kidCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int m = node.first[mid] & 0xFF;
+            if (m < key) lo = mid + 1;
+            else if (m > key) hi = mid - 1;
+            else return mid;
+        }
+        return -lo - 1;
+    }
+
+    /** Length of the common run of child's label and k[i..]. */
+    private int match(Node<V> child, byte[] k, int i) {
+        int n = Math.min(child.len, k.length - i);
+        int j = 0;
+        while (j < n && arena[child.off + j] == k[i + j]) j++;
+        return j;
+    }
+
+    private void addChild(Node<V> node, int at, Node<V> kid) {
+        if (node.kidCount == node.kids.length) {
+            int cap = Math.max(2, node.kidCount * 2);
+            node.kids = Arrays.copyOf(node.kids, cap);
+            node.first = Arrays.copyOf(node.first, cap);
+        }
+        System.arraycopy(node.kids, at, node.kids, at + 1, node.kidCount - at);
+        System.arraycopy(node.first, at, node.first, at + 1, node.kidCount - at);
+        node.kids[at] = kid;
+        node.first[at] = arena[kid.off];
+        node.kidCount++;
+    }
+
+    private void removeChild(Node<V> node, int at) {
+        System.arraycopy(node.kids, at + 1, node.kids, at, node.kidCount - at - 1);
+        System.arraycopy(node.first, at + 1, node.first, at, node.kidCount - at - 1);
+        node.kids[--node.kidCount] = null;
+    }
+
+    /** Folds the only child of a non-terminal node into it (node keeps its place in the parent). */
+    private void mergeWithOnlyChild(Node<V> node) {
+        Node<V> kid = node.kids[0];
+        if (node.off + node.len != kid.off) {
+            int off = arenaSize;
+            ensureArena(node.len + kid.len);
+            System.arraycopy(arena, node.off, arena, off, node.len);
+            System.arraycopy(arena, kid.off, arena, off + node.len, kid.len);
+            arenaSize += node.len + kid.len;
+            node.off = off;
+        }
+        node.len += kid.len;
+        node.first = kid.first;
+        node.kids = kid.kids;
+        node.kidCount = kid.kidCount;
+        node.terminal = kid.terminal;
+        node.value = kid.value;
+        nodes--;
+    }
+
+    private int append(byte[] k, int from, int len) {
+        ensureArena(len);
+        System.arraycopy(k, from, arena, arenaSize, len);
+        int off = arenaSize;
+        arenaSize += len;
+        return off;
+    }
+
+    private void ensureArena(int extra) {
+        if (arenaSize + extra > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + extra, arena.length * 2));
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / BASIC TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Radix (Patricia) Trie ===\n");
+
+        RadixTrie<String> routes = new RadixTrie<>();
+        routes.put("https://shop.example.com/", "home");
+        routes.put("https://shop.example.com/products/", "catalog");
+        routes.put("https://shop.example.com/products/café-crème", "coffee");
+        routes.put("https://shop.example.com/products/Ærøskøbing", "ferry");
+        routes.put("https://shop.example.com/cart", "cart");
+
+        System.out.println(routes.get("https://shop.example.com/cart"));                         // cart
+        System.out.println(routes.longestPrefixOf("https://shop.example.com/products/tea?x=1")); // .../products/
+        System.out.println("Under /products/:");
+        for (Iterator<String> it = routes.keysWithPrefix("https://shop.example.com/prod"); it.hasNext(); ) {
+            System.out.println("  " + it.next());
+        }
+        routes.remove("https://shop.example.com/products/");
+        System.out.println("After removing /products/: " + routes.size() + " keys, " + routes.nodeCount() + " nodes");
+        System.out.println(routes.longestPrefixOf("https://shop.example.com/products/tea")); // https://shop.example.com/
+
+        // random keys against a TreeMap
+        Random rnd = new Random(2);
+        RadixTrie<Integer> trie = new RadixTrie<>();
+        TreeMap<String, Integer> ref = new TreeMap<>();
+        String alphabet = "abé/€";
+        int mismatches = 0;
+        for (int op = 0; op < 200_000; op++) {
+            StringBuilder sb = new StringBuilder();
+            for (int len = rnd.nextInt(8); len > 0; len--) sb.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+            String key = sb.toString();
+            if (rnd.nextInt(3) == 0) {
+                if (!Objects.equals(trie.remove(key), ref.remove(key))) mismatches++;
+            } else {
+                if (!Objects.equals(trie.put(key, op), ref.put(key, op))) mismatches++;
+            }
+        }
+        List<String> listed = new ArrayList<>();
+        trie.keysWithPrefix("").forEachRemaining(listed::add);
+        List<String> expected = new ArrayList<>(ref.keySet());
+        expected.sort(Comparator.comparing((String s) -> s.getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+        System.out.println("Random ops: " + mismatches + " mismatches, iteration matches: " + listed.equals(expected)
+                + ", arena " + trie.arenaBytes() + " bytes");
+        trie.compact();
+        System.out.println("After compact: arena " + trie.arenaBytes() + " bytes, " + trie.nodeCount() + " nodes");
+    }
+}
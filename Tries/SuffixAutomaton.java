@@ -0,0 +1,288 @@
+package Tries;
+
+import java.util.*;
+
+/**
+ * =========================================================
+ * SUFFIX AUTOMATON — ALL SUBSTRINGS IN O(n) STATES
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * NumberOfDistinctSubstrings inserts every suffix into a trie:
+ * one Node[26] per distinct substring, O(n²) time and memory.
+ * At 20,000 characters that is up to 200 million nodes.
+ *
+ * The suffix automaton is the MINIMAL automaton accepting all
+ * suffixes — equivalently, every path from the start state
+ * spells a distinct substring. It has < 2n states and < 3n
+ * transitions.
+ *
+ * ---------------------------------------------------------
+ * 2. STATES
+ * ---------------------------------------------------------
+ * A state = a class of substrings with the same set of end
+ * positions. Per state:
+ *   len   → length of the longest substring in the class
+ *   link  → state of the longest suffix NOT in the class
+ *   next  → transitions
+ * The class holds exactly len[v] - len[link[v]] substrings, so
+ *
+ *   distinct non-empty substrings = Σ (len[v] - len[link[v]])
+ *
+ * ---------------------------------------------------------
+ * 3. ONLINE CONSTRUCTION (extend by one symbol c)
+ * ---------------------------------------------------------
+ * - new state cur, len = len[last] + 1
+ * - walk suffix links from last, adding p --c--> cur until a
+ *   state already has a c-transition to q
+ * - len[p] + 1 == len[q] → link[cur] = q
+ * - otherwise CLONE q (same transitions, len = len[p] + 1),
+ *   redirect the c-transitions pointing at q to the clone
+ *
+ * ---------------------------------------------------------
+ * 4. ALPHABET & MEMORY
+ * ---------------------------------------------------------
+ * Symbols (chars, bytes or ints) are remapped to 0 .. k - 1 in
+ * increasing order, and transitions are one dense int table of
+ * 2n × k entries — so symbol order == lexicographic order and
+ * a transition is a single array read. For large alphabets
+ * (hundreds of distinct symbols) the table grows with k; use
+ * strings.hard.SuffixArray there, whose memory is O(n).
+ *
+ * ---------------------------------------------------------
+ * 5. QUERIES
+ * ---------------------------------------------------------
+ * distinctSubstrings()  → Σ len[v] - len[link[v]]
+ * longestRepeated()     → max len[v] over states occurring
+ *                         ≥ 2 times (counts pushed up the
+ *                         link tree in decreasing len order)
+ * kthSubstring(k)       → paths[v] = substrings starting at v;
+ *                         walk from the start, skipping whole
+ *                         subtrees of smaller symbols
+ * Positions come back as {start, length} via firstEnd[v], the
+ * first end position of the class.
+ *
+ * ---------------------------------------------------------
+ * 6. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Build        : O(n × k) (table init), O(n) amortized steps
+ * k-th query   : O(length × k)
+ * Space        : O(n × k) ints; 2n × k must fit in one int[]
+ *                (longer texts or larger alphabets: SuffixArray)
+ *
+ * =========================================================
+ */
+
+public class SuffixAutomaton {
+
+    private final int k;                // alphabet size after remapping
+    private final int[] symbols;        // remapped id -> original symbol
+    private int[] len, link, firstEnd, next;
+    private boolean[] cloned;
+    private int size, last;
+    private long[] paths;               // lazily computed for kthSubstring
+
+    /** Builds the automaton of s (any int symbols). */
+    public SuffixAutomaton(int[] s) {
+        symbols = Arrays.stream(s).distinct().sorted().toArray();
+        k = Math.max(1, symbols.length);
+        long states = Math.max(2L, 2L * s.length);
+        if (states * k > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("transition table too large: " + states + " x " + k
+                    + "; use strings.hard.SuffixArray for long texts over large alphabets");
+        }
+        int cap = (int) states;
+        len = new int[cap];
+        link = new int[cap];
+        firstEnd = new int[cap];
+        cloned = new boolean[cap];
+        next = new int[cap * k];
+        Arrays.fill(next, -1);
+        link[0] = -1;
+        firstEnd[0] = -1;
+        size = 1;
+        last = 0;
+        for (int i = 0; i < s.length; i++) extend(Arrays.binarySearch(symbols, s[i]));
+    }
+
+    public static SuffixAutomaton of(String s) {
+        int[] t = new int[s.length()];
+        for (int i = 0; i < t.length; i++) t[i] = s.charAt(i);
+        return new SuffixAutomaton(t);
+    }
+
+    public static SuffixAutomaton of(byte[] s) {
+        int[] t = new int[s.length];
+        for (int i = 0; i < t.length; i++) t[i] = s[i] & 0xFF;
+        return new SuffixAutomaton(t);
+    }
+
+    private void extend(int c) {
+        int cur = size++;
+        len[cur] = len[last] + 1;
+        firstEnd[cur] = len[cur] - 1;
+        int p = last;
+        while (p != -1 && next[p * k + c] == -1) {
+            next[p * k + c] = cur;
+            p = link[p];
+        }
+        if (p == -1) {
+            link[cur] = 0;
+        } else {
+            int q = next[p * k + c];
+            if (len[p] + 1 == len[q]) {
+                link[cur] = q;
+            } else {
+                int clone = size++;
+                len[clone] = len[p] + 1;
+                link[clone] = link[q];
+                firstEnd[clone] = firstEnd[q];
+                cloned[clone] = true;
+                System.arraycopy(next, q * k, next, clone * k, k);
+                while (p != -1 && next[p * k + c] == q) {
+                    next[p * k + c] = clone;
+                    p = link[p];
+                }
+                link[q] = clone;
+                link[cur] = clone;
+            }
+        }
+        last = cur;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * QUERIES
+     * -----------------------------------------------------
+     */
+    public int stateCount() { return size; }
+
+    /** Number of distinct NON-EMPTY substrings. */
+    public long distinctSubstrings() {
+        long total = 0;
+        for (int v = 1; v < size; v++) total += len[v] - len[link[v]];
+        return total;
+    }
+
+    /** True if pattern (same symbol space as the text) is a substring. */
+    public boolean contains(int[] pattern) {
+        int v = 0;
+        for (int x : pattern) {
+            int c = Arrays.binarySearch(symbols, x);
+            if (c < 0 || (v = next[v * k + c]) == -1) return false;
+        }
+        return true;
+    }
+
+    /** {start, length} of the longest substring occurring at least twice ({0, 0} if none). */
+    public int[] longestRepeated() {
+        int[] order = byLengthDescending();
+        int[] occ = new int[size];
+        for (int v = 1; v < size; v++) if (!cloned[v]) occ[v] = 1;
+        int best = 0;
+        for (int v : order) {
+            if (v == 0) continue;
+            if (occ[v] >= 2 && len[v] > len[best]) best = v;
+            occ[link[v]] += occ[v];
+        }
+        return best == 0 ? new int[]{0, 0} : new int[]{firstEnd[best] - len[best] + 1, len[best]};
+    }
+
+    /**
+     * {start, length} of the k-th (1-based) distinct non-empty substring in lexicographic order,
+     * or null if there are fewer than k.
+     */
+    public int[] kthSubstring(long kth) {
+        if (paths == null) {
+            long[] cnt = new long[size];
+            for (int v : byLengthDescending()) {
+                long total = 0;
+                for (int c = 0; c < k; c++) {
+                    int to = next[v * k + c];
+                    if (to != -1) total += 1 + cnt[to];
+                }
+                cnt[v] = total;
+            }
+            paths = cnt;
+        }
+        if (kth < 1 || kth > paths[0]) return null;
+        int v = 0, length = 0;
+        while (kth > 0) {
+            for (int c = 0; c < k; c++) {
+                int to = next[v * k + c];
+                if (to == -1) continue;
+                if (kth <= 1 + paths[to]) {
+                    kth--;
+                    length++;
+                    v = to;
+                    break;
+                }
+                kth -= 1 + paths[to];
+            }
+        }
+        return new int[]{firstEnd[v] - length + 1, length};
+    }
+
+    /** States sorted by len, longest first (counting sort). */
+    private int[] byLengthDescending() {
+        int maxLen = len[last];
+        int[] bucket = new int[maxLen + 2];
+        for (int v = 0; v < size; v++) bucket[maxLen - len[v] + 1]++;
+        for (int i = 1; i < bucket.length; i++) bucket[i] += bucket[i - 1];
+        int[] order = new int[size];
+        for (int v = 0; v < size; v++) order[bucket[maxLen - len[v]]++] = v;
+        return order;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Suffix Automaton ===\n");
+
+        String s = "banana";
+        SuffixAutomaton sam = SuffixAutomaton.of(s);
+        System.out.println("States: " + sam.stateCount());                       // 10
+        System.out.println("Distinct substrings: " + sam.distinctSubstrings());   // 15
+        int[] rep = sam.longestRepeated();
+        System.out.println("Longest repeated: " + s.substring(rep[0], rep[0] + rep[1])); // ana
+        int[] fifth = sam.kthSubstring(5);
+        System.out.println("5th substring: " + s.substring(fifth[0], fifth[0] + fifth[1])); // anana
+
+        // against the O(n²) trie (which also counts "")
+        NumberOfDistinctSubstrings trie = new NumberOfDistinctSubstrings();
+        Random rnd = new Random(4);
+        int mismatches = 0;
+        for (int t = 0; t < 2_000; t++) {
+            char[] c = new char[rnd.nextInt(40)];
+            for (int i = 0; i < c.length; i++) c[i] = (char) ('a' + rnd.nextInt(1 + t % 5));
+            String x = new String(c);
+            SuffixAutomaton xs = SuffixAutomaton.of(x);
+            if (xs.distinctSubstrings() + 1 != trie.countDistinctSubstrings(x)) mismatches++;
+            TreeSet<String> all = new TreeSet<>();
+            for (int i = 0; i < x.length(); i++) for (int j = i + 1; j <= x.length(); j++) all.add(x.substring(i, j));
+            long k = 1;
+            for (String sub : all) {
+                int[] kth = xs.kthSubstring(k++);
+                if (!x.substring(kth[0], kth[0] + kth[1]).equals(sub)) { mismatches++; break; }
+            }
+            int longest = 0;
+            for (String sub : all) if (x.indexOf(sub) != x.lastIndexOf(sub)) longest = Math.max(longest, sub.length());
+            if (xs.longestRepeated()[1] != longest) mismatches++;
+        }
+        System.out.println("Random strings vs brute force: " + mismatches + " mismatches");
+
+        char[] big = new char[1_000_000];
+        for (int i = 0; i < big.length; i++) big[i] = (char) ('a' + rnd.nextInt(26));
+        long t0 = System.nanoTime();
+        SuffixAutomaton bs = SuffixAutomaton.of(new String(big));
+        long t1 = System.nanoTime();
+        System.out.printf("1,000,000 letters: %d states, %d distinct substrings (%.0f ms)%n",
+                bs.stateCount(), bs.distinctSubstrings(), (t1 - t0) / 1e6);
+    }
+}
@@ -77,6 +77,12 @@ package Tries;
  * A Trie stores strings character-by-character, enabling
  * fast prefix-based searches.
  *
+ * For large dictionaries see DoubleArrayTrie (same operations,
+ * 16 bytes per node instead of a Node[26] per character).
+ * For keys outside 'a'-'z' (URLs, any Unicode) see RadixTrie.
+ * TrieSnapshot saves a built Trie to a file that later
+ * processes memory-map instead of re-inserting every word.
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
@@ -201,6 +207,30 @@ public class Trie {
         return cur;
     }
 
+    /**
+     * -----------------------------------------------------
+     * ALL WORDS IN LEXICOGRAPHIC ORDER (used by TrieSnapshot)
+     * -----------------------------------------------------
+     */
+    java.util.List<String> words() {
+
+        java.util.List<String> out = new java.util.ArrayList<>();
+        collect(root, new StringBuilder(), out);
+        return out;
+    }
+
+    private static void collect(Node node, StringBuilder path, java.util.List<String> out) {
+
+        if (node.isEnd) out.add(path.toString());
+
+        for (int c = 0; c < 26; c++) {
+            if (node.children[c] == null) continue;
+            path.append((char) ('a' + c));
+            collect(node.children[c], path, out);
+            path.setLength(path.length() - 1);
+        }
+    }
+
     /**
      * -----------------------------------------------------
      * DRIVER CODE / BASIC TEST
@@ -73,6 +73,11 @@ package Tries;
  * Trie-II extends Trie by maintaining word and prefix
  * frequencies, enabling counting and deletion.
  *
+ * DoubleArrayTrie offers the same counting API on flat int
+ * arrays, with a bulk build from sorted words.
+ * ConcurrentTrie offers it to many threads (lock-free reads).
+ * AutocompleteTrie also returns WHICH words: the top k by weight.
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
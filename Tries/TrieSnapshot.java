@@ -0,0 +1,287 @@
+package Tries;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * =========================================================
+ * MEMORY-MAPPED TRIE SNAPSHOT
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * A Trie lives only as long as its process: every start calls
+ * insert() for every word again, allocating a Node and a
+ * Node[26] per character. For a big lexicon that is tens of
+ * seconds and a heap full of short-lived garbage.
+ *
+ * Instead, build once, write a binary snapshot, and let every
+ * process map it with FileChannel.map:
+ *
+ * ✔ open() reads a 32-byte header → startup is instant
+ * ✔ the OS pages nodes in lazily and shares them between
+ *   processes; nothing is put on the Java heap
+ * ❌ read-only
+ *
+ * ---------------------------------------------------------
+ * 2. FILE LAYOUT (little-endian, position independent)
+ * ---------------------------------------------------------
+ *   header (32 bytes)
+ *     magic "TRIESNAP" | int version | int nodeCount
+ *     | long wordCount | long reserved
+ *   nodes : nodeCount × 12 bytes, in BFS order (root = 0)
+ *     int mask        bit c (0..25) = child on 'a' + c,
+ *                     bit 31 = a word ends here
+ *     int prefixCount words in this subtree
+ *     int firstChild  index of the child with the lowest letter
+ *
+ * In BFS order the children of a node are CONSECUTIVE and
+ * sorted by letter, so only the first child is stored:
+ *
+ *   child(c) = firstChild + bitCount(mask & ((1 << c) - 1))
+ *
+ * Links are node INDICES, never addresses, so the file can be
+ * copied, mapped anywhere, or shipped to another machine.
+ *
+ * ---------------------------------------------------------
+ * 3. WRITING
+ * ---------------------------------------------------------
+ * From sorted words the BFS layout is produced directly: each
+ * queued node is a range [lo, hi) of words sharing a prefix of
+ * length depth; its children are the sub-ranges grouped by the
+ * letter at position depth. prefixCount = hi - lo.
+ *
+ * A single MappedByteBuffer is used, so a snapshot holds at
+ * most ~178 million nodes (2 GiB).
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * search / startsWith / countWordsStartingWith → O(L)
+ * File: 12 bytes per node (vs ~140 heap bytes in Trie)
+ *
+ * =========================================================
+ */
+
+public final class TrieSnapshot {
+
+    private static final long MAGIC = 0x50414E53_45495254L; // "TRIESNAP" read as little-endian long
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int NODE_BYTES = 12;
+    private static final int END_BIT = 1 << 31;
+
+    private final ByteBuffer data;
+    private final int nodes;
+    private final long words;
+
+    private TrieSnapshot(ByteBuffer data) {
+        data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.capacity() < HEADER_BYTES || data.getLong(0) != MAGIC) {
+            throw new IllegalArgumentException("not a trie snapshot");
+        }
+        if (data.getInt(8) != VERSION) throw new IllegalArgumentException("unsupported version " + data.getInt(8));
+        this.nodes = data.getInt(12);
+        this.words = data.getLong(16);
+        if ((long) HEADER_BYTES + (long) nodes * NODE_BYTES != data.capacity()) {
+            throw new IllegalArgumentException("truncated trie snapshot");
+        }
+        this.data = data;
+    }
+
+    /** Maps a snapshot read-only. Only the header is read here. */
+    public static TrieSnapshot open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) throw new IllegalArgumentException("snapshot larger than 2 GiB");
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return new TrieSnapshot(map);
+        }
+    }
+
+    /** Writes the words of a built Trie. */
+    public static void write(Trie trie, Path file) throws IOException {
+        write(trie.words(), file);
+    }
+
+    /**
+     * Writes a snapshot of the given words ('a'-'z' only), which must be sorted;
+     * duplicates are stored once, as in Trie.
+     */
+    public static void write(List<String> sortedWords, Path file) throws IOException {
+        List<String> words = new ArrayList<>(sortedWords.size());
+        for (int i = 0; i < sortedWords.size(); i++) {
+            String w = sortedWords.get(i);
+            for (int j = 0; j < w.length(); j++) {
+                if (w.charAt(j) < 'a' || w.charAt(j) > 'z') {
+                    throw new IllegalArgumentException("unsupported char '" + w.charAt(j) + "' in " + w);
+                }
+            }
+            if (i > 0) {
+                int cmp = sortedWords.get(i - 1).compareTo(w);
+                if (cmp > 0) throw new IllegalArgumentException("words not sorted at index " + i);
+                if (cmp == 0) continue;
+            }
+            words.add(w);
+        }
+
+        // node count: root + one node per distinct non-empty prefix
+        long count = 1;
+        for (int i = 0; i < words.size(); i++) {
+            int common = i == 0 ? 0 : commonPrefix(words.get(i - 1), words.get(i));
+            count += words.get(i).length() - common;
+        }
+        long size = HEADER_BYTES + count * NODE_BYTES;
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("snapshot would exceed 2 GiB: " + count + " nodes");
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putLong(0, MAGIC);
+            out.putInt(8, VERSION);
+            out.putInt(12, (int) count);
+            out.putLong(16, words.size());
+
+            // BFS over word ranges: queue holds (lo, hi, depth) per node, in node order
+            int[] queue = new int[3 * (int) count];
+            queue[0] = 0;
+            queue[1] = words.size();
+            queue[2] = 0;
+            int assigned = 1;
+            for (int node = 0; node < count; node++) {
+                int lo = queue[3 * node], hi = queue[3 * node + 1], depth = queue[3 * node + 2];
+                int mask = 0, first = assigned;
+                int i = lo;
+                if (i < hi && words.get(i).length() == depth) {
+                    mask |= END_BIT;
+                    i++;
+                }
+                while (i < hi) {
+                    char c = words.get(i).charAt(depth);
+                    int j = i + 1;
+                    while (j < hi && words.get(j).charAt(depth) == c) j++;
+                    mask |= 1 << (c - 'a');
+                    queue[3 * assigned] = i;
+                    queue[3 * assigned + 1] = j;
+                    queue[3 * assigned + 2] = depth + 1;
+                    assigned++;
+                    i = j;
+                }
+                long at = HEADER_BYTES + (long) node * NODE_BYTES;
+                out.putInt((int) at, mask);
+                out.putInt((int) at + 4, hi - lo);
+                out.putInt((int) at + 8, first);
+            }
+            out.force();
+        }
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int n = Math.min(a.length(), b.length()), i = 0;
+        while (i < n && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * QUERIES (straight from the mapped bytes)
+     * -----------------------------------------------------
+     */
+    public boolean search(String word) {
+        int node = find(word);
+        return node >= 0 && (mask(node) & END_BIT) != 0;
+    }
+
+    public boolean startsWith(String prefix) {
+        return countWordsStartingWith(prefix) > 0;
+    }
+
+    public int countWordsStartingWith(String prefix) {
+        int node = find(prefix);
+        return node < 0 ? 0 : data.getInt(HEADER_BYTES + node * NODE_BYTES + 4);
+    }
+
+    public long wordCount() { return words; }
+
+    public int nodeCount() { return nodes; }
+
+    private int mask(int node) {
+        return data.getInt(HEADER_BYTES + node * NODE_BYTES);
+    }
+
+    private int find(String s) {
+        int node = 0;
+        for (int i = 0; i < s.length(); i++) {
+            int c = s.charAt(i) - 'a';
+            if (c < 0 || c >= 26) return -1;
+            int mask = mask(node);
+            if ((mask & (1 << c)) == 0) return -1;
+            int first = data.getInt(HEADER_BYTES + node * NODE_BYTES + 8);
+            node = first + Integer.bitCount(mask & ((1 << c) - 1));
+        }
+        return node;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / BASIC TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) throws IOException {
+
+        System.out.println("=== Memory-Mapped Trie Snapshot ===\n");
+
+        Path dir = Files.createTempDirectory("trie-snapshot");
+        Path small = dir.resolve("small.trie");
+        Trie trie = new Trie();
+        for (String w : new String[]{"apple", "app", "apply", "bat", "bath"}) trie.insert(w);
+        write(trie, small);
+        TrieSnapshot snap = open(small);
+        System.out.println(snap.search("app"));                  // true
+        System.out.println(snap.search("appl"));                 // false
+        System.out.println(snap.startsWith("ba"));               // true
+        System.out.println(snap.countWordsStartingWith("app"));  // 3
+        System.out.println(snap.nodeCount() + " nodes, " + Files.size(small) + " bytes");
+
+        // one million random words: build + write once, then open vs rebuilding a Trie
+        Random rnd = new Random(13);
+        String[] words = new String[1_000_000];
+        for (int i = 0; i < words.length; i++) {
+            char[] w = new char[3 + rnd.nextInt(10)];
+            for (int j = 0; j < w.length; j++) w[j] = (char) ('a' + rnd.nextInt(26));
+            words[i] = new String(w);
+        }
+        String[] sorted = words.clone();
+        Arrays.sort(sorted);
+        Path big = dir.resolve("big.trie");
+        write(Arrays.asList(sorted), big);
+
+        long t0 = System.nanoTime();
+        Trie rebuilt = new Trie();
+        for (String w : words) rebuilt.insert(w);
+        long t1 = System.nanoTime();
+        TrieSnapshot mapped = open(big);
+        long t2 = System.nanoTime();
+
+        TrieII counts = new TrieII();
+        for (String w : new TreeSet<>(Arrays.asList(words))) counts.insert(w);
+        int mismatches = 0;
+        for (int q = 0; q < 200_000; q++) {
+            String w = q % 2 == 0 ? words[rnd.nextInt(words.length)] : words[rnd.nextInt(words.length)].substring(0, 1 + rnd.nextInt(3));
+            if (mapped.search(w) != rebuilt.search(w) || mapped.startsWith(w) != rebuilt.startsWith(w)) mismatches++;
+            if (mapped.countWordsStartingWith(w) != counts.countWordsStartingWith(w)) mismatches++;
+        }
+        System.out.printf("%d words: rebuild %.0f ms, open %.2f ms, %d nodes in %d MB, %d mismatches%n",
+                words.length, (t1 - t0) / 1e6, (t2 - t1) / 1e6, mapped.nodeCount(), Files.size(big) >> 20, mismatches);
+
+        Files.delete(small);
+        Files.delete(big);
+        Files.delete(dir);
+    }
+}
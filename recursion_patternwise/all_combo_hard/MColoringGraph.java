@@ -32,6 +32,9 @@ public class MColoringGraph {
     
     Time Complexity: O(M^V) - worst case all colors for all vertices
     Space Complexity: O(V) - color array + recursion depth
+
+    For larger graphs see DsaturColoring (bitset neighbourhoods, DSATUR order,
+    clique/greedy bounds, parallel search) which has the same two entry points.
     =====================================================================================
     */
     
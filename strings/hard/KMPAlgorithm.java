@@ -82,6 +82,11 @@ package strings.hard;
  * KMP avoids redundant comparisons by using prefix-suffix
  * information stored in the LPS array.
  *
+ * KmpPattern keeps the LPS table and searches a channel or
+ * Reader chunk by chunk, returning offsets instead of printing.
+ * For many patterns at once see Tries.AhoCorasick (one scan
+ * of the text for all of them).
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
@@ -0,0 +1,323 @@
+package strings.hard;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * =========================================================
+ * COMPILED KMP PATTERN — STREAMING SEARCH OVER CHUNKS
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * KMPAlgorithm.KMPSearch needs the whole text as one String,
+ * rebuilds the LPS table on every call and only PRINTS the
+ * matches. A multi-GB log does not fit in a String, and the
+ * caller wants the offsets.
+ *
+ * ---------------------------------------------------------
+ * 2. KEY OBSERVATION
+ * ---------------------------------------------------------
+ * KMP never moves backwards in the text. Its whole state is
+ *
+ *   j = length of the pattern prefix matched so far
+ *
+ * so a text can be fed in arbitrary chunks: keep j (and the
+ * absolute offset) between chunks and a match that straddles a
+ * chunk border is found exactly like any other.
+ *
+ * ---------------------------------------------------------
+ * 3. API
+ * ---------------------------------------------------------
+ * KmpPattern p = KmpPattern.of("needle");   // LPS built once
+ *
+ * p.matcher(sink).feed(chunk1).feed(chunk2) → push, any source
+ * p.scan(channel or reader, sink)           → whole source
+ * p.matches(channel or reader)              → lazy LongStream
+ *
+ * Offsets are absolute START positions (bytes for byte input,
+ * chars for char input), delivered as primitive longs.
+ * Byte input is compared as ISO-8859-1 (byte b = char b & 0xFF);
+ * of(byte[]) takes a raw byte pattern (e.g. UTF-8 encoded).
+ *
+ * ---------------------------------------------------------
+ * 4. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let n = text length, m = pattern length
+ * Time  : O(n + m)
+ * Space : O(m) + one chunk buffer, independent of n
+ *
+ * =========================================================
+ * IMPLEMENTATION BELOW
+ * =========================================================
+ */
+
+public final class KmpPattern {
+
+    private static final int CHUNK = 1 << 16;
+
+    private final int[] pat;
+    private final int[] lps;
+
+    private KmpPattern(int[] pat, int[] lps) {
+        if (pat.length == 0) throw new IllegalArgumentException("empty pattern");
+        this.pat = pat;
+        this.lps = lps;
+    }
+
+    public static KmpPattern of(String pattern) {
+        int[] p = new int[pattern.length()];
+        for (int i = 0; i < p.length; i++) p[i] = pattern.charAt(i);
+        return new KmpPattern(p, KMPAlgorithm.buildLPS(pattern));
+    }
+
+    public static KmpPattern of(byte[] pattern) {
+        int[] p = new int[pattern.length];
+        for (int i = 0; i < p.length; i++) p[i] = pattern[i] & 0xFF;
+        return new KmpPattern(p, KMPAlgorithm.buildLPS(new String(pattern, StandardCharsets.ISO_8859_1)));
+    }
+
+    public int length() { return pat.length; }
+
+    public Matcher matcher(LongConsumer sink) {
+        return new Matcher(sink);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * RESUMABLE MATCHER
+     * -----------------------------------------------------
+     */
+    public final class Matcher {
+
+        private final LongConsumer sink;
+        private int j;          // pattern prefix matched so far
+        private long offset;    // symbols consumed so far
+
+        private Matcher(LongConsumer sink) {
+            this.sink = sink;
+        }
+
+        public Matcher feed(CharSequence chunk) {
+            for (int i = 0, n = chunk.length(); i < n; i++) step(chunk.charAt(i), offset + i);
+            offset += chunk.length();
+            return this;
+        }
+
+        public Matcher feed(char[] chunk, int from, int len) {
+            for (int i = 0; i < len; i++) step(chunk[from + i], offset + i);
+            offset += len;
+            return this;
+        }
+
+        public Matcher feed(byte[] chunk, int from, int len) {
+            for (int i = 0; i < len; i++) step(chunk[from + i] & 0xFF, offset + i);
+            offset += len;
+            return this;
+        }
+
+        /** Consumes the buffer's remaining bytes. */
+        public Matcher feed(ByteBuffer chunk) {
+            int n = chunk.remaining();
+            if (chunk.hasArray()) {
+                feed(chunk.array(), chunk.arrayOffset() + chunk.position(), n);
+            } else {
+                for (int i = 0; i < n; i++) step(chunk.get(chunk.position() + i) & 0xFF, offset + i);
+                offset += n;
+            }
+            chunk.position(chunk.limit());
+            return this;
+        }
+
+        private void step(int c, long at) {
+            int k = j;
+            while (k > 0 && pat[k] != c) k = lps[k - 1];
+            if (pat[k] == c) k++;
+            if (k == pat.length) {
+                sink.accept(at - pat.length + 1);
+                k = lps[k - 1];
+            }
+            j = k;
+        }
+
+        public long offset() { return offset; }
+
+        public void reset() {
+            j = 0;
+            offset = 0;
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * WHOLE SOURCES
+     * -----------------------------------------------------
+     */
+
+    /** Scans the channel to its end; returns the number of matches. */
+    public long scan(ReadableByteChannel in, LongConsumer sink) throws IOException {
+        long[] count = new long[1];
+        Matcher m = matcher(at -> { count[0]++; sink.accept(at); });
+        ByteBuffer buf = ByteBuffer.allocate(CHUNK);
+        while (in.read(buf) != -1) {
+            buf.flip();
+            m.feed(buf);
+            buf.clear();
+        }
+        return count[0];
+    }
+
+    /** Scans the reader to its end; returns the number of matches. */
+    public long scan(Reader in, LongConsumer sink) throws IOException {
+        long[] count = new long[1];
+        Matcher m = matcher(at -> { count[0]++; sink.accept(at); });
+        char[] buf = new char[CHUNK];
+        for (int r; (r = in.read(buf)) != -1; ) m.feed(buf, 0, r);
+        return count[0];
+    }
+
+    /** Lazy stream of match offsets; reads one chunk at a time as the stream is consumed. */
+    public LongStream matches(ReadableByteChannel in) {
+        ByteBuffer buf = ByteBuffer.allocate(CHUNK);
+        return stream(m -> {
+            buf.clear();
+            if (in.read(buf) == -1) return false;
+            buf.flip();
+            m.feed(buf);
+            return true;
+        });
+    }
+
+    /** Lazy stream of match offsets over a Reader. */
+    public LongStream matches(Reader in) {
+        char[] buf = new char[CHUNK];
+        return stream(m -> {
+            int r = in.read(buf);
+            if (r == -1) return false;
+            m.feed(buf, 0, r);
+            return true;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        /** Feeds the next chunk into m; false at end of input. */
+        boolean next(Matcher m) throws IOException;
+    }
+
+    private LongStream stream(ChunkReader source) {
+        Spliterator.OfLong split = new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL) {
+            private long[] pending = new long[16];
+            private int head, tail;
+            private boolean done;
+            private final Matcher m = matcher(at -> {
+                if (tail == pending.length) pending = Arrays.copyOf(pending, tail * 2);
+                pending[tail++] = at;
+            });
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                while (head == tail && !done) {
+                    head = tail = 0;
+                    try {
+                        done = !source.next(m);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                if (head == tail) return false;
+                action.accept(pending[head++]);
+                return true;
+            }
+
+            @Override
+            public java.util.Comparator<? super Long> getComparator() {
+                return null;
+            }
+        };
+        return StreamSupport.longStream(split, false);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) throws IOException {
+
+        System.out.println("=== Streaming KMP ===\n");
+
+        KmpPattern p = KmpPattern.of("ababd");
+        p.matcher(at -> System.out.println("Pattern found at index: " + at))
+                .feed("ababcabcab")
+                .feed("ababd");                       // 10, across the chunk border
+        System.out.println(Arrays.toString(
+                KmpPattern.of("aa").matches(new StringReader("aaaa")).toArray()));   // [0, 1, 2]
+
+        // random chunked texts against indexOf
+        Random rnd = new Random(14);
+        int mismatches = 0;
+        for (int t = 0; t < 2_000; t++) {
+            String pat = randomText(rnd, 1 + rnd.nextInt(4));
+            String text = randomText(rnd, rnd.nextInt(300));
+            LongStream.Builder got = LongStream.builder();
+            KmpPattern.Matcher m = KmpPattern.of(pat).matcher(got::add);
+            for (int from = 0; from < text.length(); ) {
+                int to = Math.min(text.length(), from + 1 + rnd.nextInt(9));
+                m.feed(text.substring(from, to));
+                from = to;
+            }
+            LongStream.Builder expected = LongStream.builder();
+            for (int at = text.indexOf(pat); at >= 0; at = text.indexOf(pat, at + 1)) expected.add(at);
+            if (!Arrays.equals(got.build().toArray(), expected.build().toArray())) mismatches++;
+        }
+        System.out.println("Random chunked texts vs indexOf: " + mismatches + " mismatches");
+
+        // 256 MB file through a channel in constant memory
+        Path file = Files.createTempFile("kmp", ".log");
+        byte[] block = new byte[1 << 20];
+        long planted = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            for (int b = 0; b < 256; b++) {
+                for (int i = 0; i < block.length; i++) block[i] = (byte) ('a' + rnd.nextInt(3));
+                int at = rnd.nextInt(block.length - 16);
+                System.arraycopy("FATAL: disk".getBytes(StandardCharsets.US_ASCII), 0, block, at, 11);
+                planted++;
+                out.write(block);
+            }
+        }
+        KmpPattern fatal = KmpPattern.of("FATAL: disk".getBytes(StandardCharsets.US_ASCII));
+        long t0 = System.nanoTime();
+        long found;
+        try (ReadableByteChannel ch = Files.newByteChannel(file)) {
+            found = fatal.scan(ch, at -> { });
+        }
+        long t1 = System.nanoTime();
+        long firstFromStream;
+        try (ReadableByteChannel ch = Channels.newChannel(Files.newInputStream(file))) {
+            firstFromStream = fatal.matches(ch).findFirst().orElse(-1);
+        }
+        System.out.printf("256 MB: %d of %d planted matches in %.0f ms, first at %d%n",
+                found, planted, (t1 - t0) / 1e6, firstFromStream);
+        Files.delete(file);
+    }
+
+    private static String randomText(Random rnd, int len) {
+        char[] c = new char[len];
+        for (int i = 0; i < len; i++) c[i] = (char) ('a' + rnd.nextInt(2));
+        return new String(c);
+    }
+}
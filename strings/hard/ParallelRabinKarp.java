@@ -0,0 +1,349 @@
+package strings.hard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * =========================================================
+ * PARALLEL MULTI-PATTERN RABIN–KARP (MOD 2^61 - 1)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHY?
+ * ---------------------------------------------------------
+ * RabinKarp.search:
+ *   ❌ maps chars as c - 'a' + 1 → wrong outside 'a'..'z'
+ *   ❌ one 31 / 1e9+7 hash → ~1 false hit per 10^9 windows,
+ *      easy to force on purpose
+ *   ❌ verifies with substring().equals → a String per hit
+ *   ❌ one pattern, one thread, prints instead of returning
+ *
+ * ---------------------------------------------------------
+ * 2. HASH: MERSENNE PRIME 2^61 - 1
+ * ---------------------------------------------------------
+ *   hash(s) = Σ (s[i] + 1) × B^(m-1-i)   mod M,  M = 2^61 - 1
+ *
+ * - full chars (0..65535) or bytes (0..255) as digits
+ * - B is drawn at random per instance, so no fixed input can
+ *   be tuned to collide
+ * - a × b mod M without BigInteger: the 122-bit product is
+ *   hi × 2^64 + lo, and 2^64 ≡ 8, 2^61 ≡ 1 (mod M), so
+ *   (lo & M) + (lo >>> 61) + (hi << 3), folded once more
+ *
+ * Collision chance per window ≈ m / 2^61: candidates are still
+ * confirmed by a REGION COMPARE (no substring allocation).
+ *
+ * ---------------------------------------------------------
+ * 3. MANY PATTERNS OF ONE LENGTH
+ * ---------------------------------------------------------
+ * All patterns have length m, so one rolling hash per window
+ * serves them all: the window hash is looked up in an
+ * open-addressing table long[] keys → int pattern id (chained
+ * through nextSame[] for equal hashes). No boxing.
+ * A bitset of ~16 bits per pattern in front of the table
+ * rejects almost every window with one predictable branch.
+ *
+ * ---------------------------------------------------------
+ * 4. PARALLEL CHUNKS
+ * ---------------------------------------------------------
+ * Start positions 0 .. n-m are split into ranges; range
+ * [s, e) reads text[s, e + m - 1) — chunks OVERLAP by m - 1
+ * chars so no window is lost, and each window belongs to
+ * exactly one chunk, so nothing is reported twice. Chunks run
+ * on a ForkJoinPool and results are concatenated in order.
+ *
+ * Hits are packed longs: position << 32 | patternId, sorted
+ * by position (see position(hit), patternId(hit)).
+ *
+ * ---------------------------------------------------------
+ * 5. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Let n = text, m = pattern length, P = threads, Z = hits
+ * Time  : O((n + Z × m) / P) expected
+ * Space : O(patterns) + O(Z)
+ *
+ * =========================================================
+ * IMPLEMENTATION BELOW
+ * =========================================================
+ */
+
+public final class ParallelRabinKarp {
+
+    private static final long MOD = (1L << 61) - 1;
+    private static final int MIN_CHUNK = 1 << 16;
+
+    private final int m;
+    private final int[][] patterns;     // symbols (chars or unsigned bytes)
+    private final long base, topPower;  // B, B^(m-1)
+    private final long[] keys;          // window hash per slot
+    private final int[] slotHead;       // first pattern id per slot, -1 = empty
+    private final int[] nextSame;       // next pattern id with the same hash
+    private final long[] filter;        // bitset over low hash bits, set for every pattern hash
+    private final ForkJoinPool pool;
+
+    private ParallelRabinKarp(int[][] patterns, ForkJoinPool pool) {
+        if (patterns.length == 0) throw new IllegalArgumentException("no patterns");
+        m = patterns[0].length;
+        if (m == 0) throw new IllegalArgumentException("empty pattern");
+        for (int[] p : patterns) {
+            if (p.length != m) throw new IllegalArgumentException("patterns must have equal length " + m);
+        }
+        this.patterns = patterns;
+        this.pool = pool;
+        base = (1L << 20) + new SplittableRandom().nextLong(MOD - (1L << 21));
+        long pw = 1;
+        for (int i = 1; i < m; i++) pw = mul(pw, base);
+        topPower = pw;
+
+        int cap = Integer.highestOneBit(Math.max(4, patterns.length * 2 - 1)) << 1;
+        keys = new long[cap];
+        slotHead = new int[cap];
+        Arrays.fill(slotHead, -1);
+        nextSame = new int[patterns.length];
+        filter = new long[Integer.highestOneBit(Math.max(1, patterns.length / 4)) << 1];
+        for (int id = patterns.length - 1; id >= 0; id--) {   // chains end up in id order
+            long h = 0;
+            for (int c : patterns[id]) h = add(mul(h, base), c + 1);
+            int slot = slotOf(h);
+            if (slotHead[slot] == -1) keys[slot] = h;
+            filter[(int) (h >>> 6) & (filter.length - 1)] |= 1L << h;
+            nextSame[id] = slotHead[slot];
+            slotHead[slot] = id;
+        }
+    }
+
+    public static ParallelRabinKarp of(String... patterns) {
+        return of(ForkJoinPool.commonPool(), patterns);
+    }
+
+    public static ParallelRabinKarp of(ForkJoinPool pool, String... patterns) {
+        int[][] p = new int[patterns.length][];
+        for (int i = 0; i < p.length; i++) p[i] = patterns[i].chars().toArray();
+        return new ParallelRabinKarp(p, pool);
+    }
+
+    /** Raw byte patterns (e.g. UTF-8 encoded), for byte[] texts. */
+    public static ParallelRabinKarp of(byte[]... patterns) {
+        int[][] p = new int[patterns.length][];
+        for (int i = 0; i < p.length; i++) {
+            p[i] = new int[patterns[i].length];
+            for (int j = 0; j < p[i].length; j++) p[i][j] = patterns[i][j] & 0xFF;
+        }
+        return new ParallelRabinKarp(p, ForkJoinPool.commonPool());
+    }
+
+    public static int position(long hit) { return (int) (hit >>> 32); }
+
+    public static int patternId(long hit) { return (int) hit; }
+
+    /**
+     * -----------------------------------------------------
+     * SEARCH
+     * -----------------------------------------------------
+     */
+
+    /** All hits in text, sorted by position. */
+    public long[] findAll(CharSequence text) {
+        return findAll(text.length(), (s, e, out) -> scan(text, s, e, out));
+    }
+
+    /** All hits in a byte text (bytes compared unsigned, ISO-8859-1 against String patterns). */
+    public long[] findAll(byte[] text) {
+        return findAll(text.length, (s, e, out) -> scan(text, s, e, out));
+    }
+
+    @FunctionalInterface
+    private interface RangeScan {
+        void scan(int fromStart, int toStart, LongList out);
+    }
+
+    private long[] findAll(int n, RangeScan scanner) {
+        int windows = n - m + 1;
+        if (windows <= 0) return new long[0];
+        int chunk = Math.max(MIN_CHUNK, windows / (4 * pool.getParallelism()) + 1);
+        int chunks = (windows + chunk - 1) / chunk;
+        LongList[] parts = new LongList[chunks];
+        Runnable job = () -> IntStream.range(0, chunks).parallel().forEach(c -> {
+            LongList out = new LongList();
+            scanner.scan(c * chunk, (int) Math.min(windows, (long) (c + 1) * chunk), out);
+            parts[c] = out;
+        });
+        if (chunks == 1) job.run();
+        else pool.submit(job).join();
+
+        int total = 0;
+        for (LongList p : parts) total += p.size;
+        long[] res = new long[total];
+        int at = 0;
+        for (LongList p : parts) {
+            System.arraycopy(p.data, 0, res, at, p.size);
+            at += p.size;
+        }
+        return res;
+    }
+
+    /** Windows starting in [from, to), reading text[from, to + m - 1). */
+    private void scan(CharSequence text, int from, int to, LongList out) {
+        long h = 0;
+        for (int i = from; i < from + m; i++) h = add(mul(h, base), text.charAt(i) + 1);
+        for (int i = from; ; i++) {
+            int slot = find(h);
+            if (slot >= 0) {
+                for (int id = slotHead[slot]; id != -1; id = nextSame[id]) {
+                    if (regionEquals(text, i, patterns[id])) out.add(((long) i << 32) | id);
+                }
+            }
+            if (i + 1 >= to) break;
+            h = sub(h, mul(text.charAt(i) + 1, topPower));
+            h = add(mul(h, base), text.charAt(i + m) + 1);
+        }
+    }
+
+    private void scan(byte[] text, int from, int to, LongList out) {
+        long h = 0;
+        for (int i = from; i < from + m; i++) h = add(mul(h, base), (text[i] & 0xFF) + 1);
+        for (int i = from; ; i++) {
+            int slot = find(h);
+            if (slot >= 0) {
+                for (int id = slotHead[slot]; id != -1; id = nextSame[id]) {
+                    if (regionEquals(text, i, patterns[id])) out.add(((long) i << 32) | id);
+                }
+            }
+            if (i + 1 >= to) break;
+            h = sub(h, mul((text[i] & 0xFF) + 1, topPower));
+            h = add(mul(h, base), (text[i + m] & 0xFF) + 1);
+        }
+    }
+
+    private static boolean regionEquals(CharSequence text, int at, int[] pattern) {
+        for (int k = 0; k < pattern.length; k++) if (text.charAt(at + k) != pattern[k]) return false;
+        return true;
+    }
+
+    private static boolean regionEquals(byte[] text, int at, int[] pattern) {
+        for (int k = 0; k < pattern.length; k++) if ((text[at + k] & 0xFF) != pattern[k]) return false;
+        return true;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * HASH TABLE (open addressing, linear probing)
+     * -----------------------------------------------------
+     */
+    private int slotOf(long h) {
+        int mask = keys.length - 1;
+        int slot = (int) (h ^ (h >>> 29)) & mask;
+        while (slotHead[slot] != -1 && keys[slot] != h) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /** Slot holding hash h, or -1. */
+    private int find(long h) {
+        if ((filter[(int) (h >>> 6) & (filter.length - 1)] & (1L << h)) == 0) return -1;
+        int mask = keys.length - 1;
+        int slot = (int) (h ^ (h >>> 29)) & mask;
+        while (slotHead[slot] != -1) {
+            if (keys[slot] == h) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * ARITHMETIC MOD 2^61 - 1
+     * -----------------------------------------------------
+     */
+    static long mul(long a, long b) {
+        long hi = Math.multiplyHigh(a, b), lo = a * b;
+        long r = (lo & MOD) + (lo >>> 61) + (hi << 3);
+        r = (r & MOD) + (r >>> 61);
+        return r >= MOD ? r - MOD : r;
+    }
+
+    private static long add(long a, long b) {
+        long r = a + b;
+        return r >= MOD ? r - MOD : r;
+    }
+
+    private static long sub(long a, long b) {
+        long r = a - b;
+        return r < 0 ? r + MOD : r;
+    }
+
+    private static final class LongList {
+        long[] data = new long[8];
+        int size;
+
+        void add(long v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Parallel Rabin–Karp (mod 2^61 - 1) ===\n");
+
+        ParallelRabinKarp one = of("ababd");
+        for (long hit : one.findAll("ababcabcabababd")) {
+            System.out.println("Pattern found at index: " + position(hit));   // 10
+        }
+        ParallelRabinKarp multi = of("Ünï", "ABC", "abc");                   // outside 'a'..'z' too
+        for (long hit : multi.findAll("xxABCyyÜnïzzabc")) {
+            System.out.println("pattern " + patternId(hit) + " at " + position(hit)); // 1@2, 0@7, 2@12
+        }
+
+        // random texts (forced through small chunks) against indexOf
+        Random rnd = new Random(15);
+        int mismatches = 0;
+        for (int t = 0; t < 500; t++) {
+            int m = 1 + rnd.nextInt(4);
+            String[] ps = new String[1 + rnd.nextInt(6)];
+            for (int i = 0; i < ps.length; i++) ps[i] = randomText(rnd, m, 3);
+            String text = randomText(rnd, rnd.nextInt(400_000), 3);
+            long[] got = of(ps).findAll(text);
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < ps.length; id++) {
+                for (int at = text.indexOf(ps[id]); at >= 0; at = text.indexOf(ps[id], at + 1)) {
+                    expected.add(((long) at << 32) | id);
+                }
+            }
+            Collections.sort(expected);
+            long[] sortedGot = got.clone();
+            Arrays.sort(sortedGot);
+            if (!Arrays.equals(sortedGot, expected.stream().mapToLong(Long::longValue).toArray())) mismatches++;
+            for (int i = 1; i < got.length; i++) if (position(got[i]) < position(got[i - 1])) { mismatches++; break; }
+        }
+        System.out.println("Random texts vs indexOf: " + mismatches + " mismatches");
+
+        // 1,000 twelve-byte patterns over 200 MB of bytes
+        byte[][] pats = new byte[1_000][];
+        for (int i = 0; i < pats.length; i++) pats[i] = ("ID-" + randomText(rnd, 9, 26)).getBytes(StandardCharsets.US_ASCII);
+        byte[] big = new byte[200 << 20];
+        for (int i = 0; i < big.length; i++) big[i] = (byte) ('a' + rnd.nextInt(26));
+        for (int i = 0; i < 5_000; i++) {
+            byte[] p = pats[rnd.nextInt(pats.length)];
+            System.arraycopy(p, 0, big, rnd.nextInt(big.length - p.length), p.length);
+        }
+        ParallelRabinKarp rk = of(pats);
+        long t0 = System.nanoTime();
+        long[] hits = rk.findAll(big);
+        long t1 = System.nanoTime();
+        System.out.printf("200 MB, %d patterns, %d threads: %d hits in %.0f ms%n",
+                pats.length, ForkJoinPool.commonPool().getParallelism(), hits.length, (t1 - t0) / 1e6);
+    }
+
+    private static String randomText(Random rnd, int len, int alphabet) {
+        char[] c = new char[len];
+        for (int i = 0; i < len; i++) c[i] = (char) ('a' + rnd.nextInt(alphabet));
+        return new String(c);
+    }
+}
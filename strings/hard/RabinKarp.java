@@ -80,6 +80,9 @@ package strings.hard;
  * Rabin–Karp compares pattern hashes with rolling substring
  * hashes to find matches efficiently.
  *
+ * ParallelRabinKarp: any chars or bytes, a 2^61 - 1 hash, many
+ * equal-length patterns, parallel chunks, offsets returned.
+ *
  * =========================================================
  * IMPLEMENTATION BELOW
  * =========================================================
@@ -0,0 +1,320 @@
+package strings.hard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * =========================================================
+ * SUFFIX ARRAY (SA-IS) + LCP ARRAY (KASAI)
+ * =========================================================
+ *
+ * ---------------------------------------------------------
+ * 1. WHAT IS IT?
+ * ---------------------------------------------------------
+ * sa[i] = start of the i-th smallest suffix of s.
+ * lcp[i] = longest common prefix of suffixes sa[i - 1], sa[i]
+ *          (lcp[0] = 0)
+ *
+ * Example: s = "banana"
+ *
+ *   i  sa  lcp  suffix
+ *   0   5   0   a
+ *   1   3   1   ana
+ *   2   1   3   anana
+ *   3   0   0   banana
+ *   4   4   0   na
+ *   5   2   2   nana
+ *
+ * ---------------------------------------------------------
+ * 2. SA-IS (SUFFIX ARRAY BY INDUCED SORTING) — O(n)
+ * ---------------------------------------------------------
+ * - Type every suffix: S if s[i..] < s[i+1..], else L.
+ * - LMS positions = S right after an L. Put them in their
+ *   character buckets, then INDUCE the order of all L suffixes
+ *   (left to right) and all S suffixes (right to left).
+ * - That sorts the LMS SUBSTRINGS; give equal ones equal names,
+ *   recurse on the (at most n / 2) names if they are not all
+ *   distinct, and induce once more from the sorted LMS suffixes.
+ *
+ * Alphabet: any int[] with values in [0, upper] (byte[] uses
+ * 0..255, a String its UTF-16 chars). Memory is O(n + upper),
+ * independent of how many distinct symbols there are.
+ *
+ * ---------------------------------------------------------
+ * 3. KASAI LCP — O(n)
+ * ---------------------------------------------------------
+ * Walk suffixes in TEXT order; going from suffix i to i + 1
+ * the LCP with the previous suffix in sa drops by at most 1,
+ * so h only decreases n times in total.
+ *
+ * ---------------------------------------------------------
+ * 4. QUERIES ON TOP
+ * ---------------------------------------------------------
+ * Sorted suffix i adds the prefixes of lengths
+ * lcp[i] + 1 .. n - sa[i] as NEW distinct substrings, and in
+ * lexicographic order. Therefore:
+ *
+ * distinct substrings   = Σ (n - sa[i] - lcp[i])
+ * longest repeated      = max lcp[i]
+ * k-th distinct (lex)   = binary search on the prefix sums of
+ *                         (n - sa[i] - lcp[i])      O(log n)
+ *
+ * ---------------------------------------------------------
+ * 5. TIME & SPACE COMPLEXITY
+ * ---------------------------------------------------------
+ * Build: O(n + upper) time, O(n + upper) ints
+ * Queries: as above
+ *
+ * The quadratic Trie in Tries.NumberOfDistinctSubstrings and the
+ * HashSet in CountNumberOfSubstrings answer the same count.
+ *
+ * =========================================================
+ * IMPLEMENTATION BELOW
+ * =========================================================
+ */
+
+public class SuffixArray {
+
+    private final int n;
+    private final int[] sa, rank, lcp;
+    private long[] newBefore;   // newBefore[i] = distinct substrings contributed by sa[0 .. i - 1]
+
+    /**
+     * @param s     symbols in [0, upper]
+     * @param upper largest symbol value allowed
+     */
+    public SuffixArray(int[] s, int upper) {
+        for (int c : s) {
+            if (c < 0 || c > upper) throw new IllegalArgumentException("symbol " + c + " outside [0, " + upper + "]");
+        }
+        n = s.length;
+        sa = saIs(s, upper);
+        rank = new int[n];
+        for (int i = 0; i < n; i++) rank[sa[i]] = i;
+        lcp = kasai(s, sa, rank);
+    }
+
+    public static SuffixArray of(String s) {
+        int[] t = new int[s.length()];
+        for (int i = 0; i < t.length; i++) t[i] = s.charAt(i);
+        return new SuffixArray(t, Character.MAX_VALUE);
+    }
+
+    public static SuffixArray of(byte[] s) {
+        int[] t = new int[s.length];
+        for (int i = 0; i < t.length; i++) t[i] = s[i] & 0xFF;
+        return new SuffixArray(t, 255);
+    }
+
+    /**
+     * -----------------------------------------------------
+     * ACCESSORS
+     * -----------------------------------------------------
+     */
+    public int length() { return n; }
+
+    public int[] suffixArray() { return sa.clone(); }
+
+    /** Position of suffix i in sorted order. */
+    public int rank(int i) { return rank[i]; }
+
+    public int[] lcpArray() { return lcp.clone(); }
+
+    /**
+     * -----------------------------------------------------
+     * QUERIES
+     * -----------------------------------------------------
+     */
+
+    /** Number of distinct NON-EMPTY substrings. */
+    public long distinctSubstrings() {
+        long total = 0;
+        for (int i = 0; i < n; i++) total += n - sa[i] - lcp[i];
+        return total;
+    }
+
+    /** {start, length} of the longest substring occurring at least twice ({0, 0} if none). */
+    public int[] longestRepeated() {
+        int best = 0;
+        for (int i = 1; i < n; i++) if (lcp[i] > lcp[best]) best = i;
+        return n == 0 || lcp[best] == 0 ? new int[]{0, 0} : new int[]{sa[best], lcp[best]};
+    }
+
+    /**
+     * {start, length} of the k-th (1-based) distinct non-empty substring in lexicographic order,
+     * or null if there are fewer than k.
+     */
+    public int[] kthSubstring(long k) {
+        if (newBefore == null) {
+            long[] acc = new long[n + 1];
+            for (int i = 0; i < n; i++) acc[i + 1] = acc[i] + (n - sa[i] - lcp[i]);
+            newBefore = acc;
+        }
+        if (k < 1 || k > newBefore[n]) return null;
+        int lo = 0, hi = n - 1;            // first i with newBefore[i + 1] >= k
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (newBefore[mid + 1] >= k) hi = mid;
+            else lo = mid + 1;
+        }
+        return new int[]{sa[lo], lcp[lo] + (int) (k - newBefore[lo])};
+    }
+
+    /**
+     * -----------------------------------------------------
+     * SA-IS
+     * -----------------------------------------------------
+     */
+    static int[] saIs(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) return new int[0];
+        if (n == 1) return new int[]{0};
+        if (n == 2) return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+
+        int[] sa = new int[n];
+        boolean[] ls = new boolean[n];          // true = S type
+        for (int i = n - 2; i >= 0; i--) ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+
+        // bucket starts: sumL[c] = first slot of c's L part, sumS[c] = first slot of c's S part
+        int[] sumL = new int[upper + 2], sumS = new int[upper + 2];
+        for (int i = 0; i < n; i++) {
+            if (!ls[i]) sumS[s[i]]++;
+            else sumL[s[i] + 1]++;
+        }
+        for (int c = 0; c <= upper; c++) {
+            sumS[c] += sumL[c];
+            sumL[c + 1] += sumS[c];
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) if (!ls[i - 1] && ls[i]) lmsMap[i] = m++;
+        int[] lms = new int[m];
+        for (int i = 1, j = 0; i < n; i++) if (!ls[i - 1] && ls[i]) lms[j++] = i;
+
+        induce(s, sa, ls, sumL, sumS, lms);
+
+        if (m > 0) {
+            int[] sortedLms = new int[m];
+            int j = 0;
+            for (int v : sa) if (lmsMap[v] != -1) sortedLms[j++] = v;
+
+            // name the LMS substrings; equal substrings share a name
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int l = sortedLms[i - 1], r = sortedLms[i];
+                int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r) {
+                    same = false;
+                } else {
+                    while (l < endL && s[l] == s[r]) { l++; r++; }
+                    if (l == n || s[l] != s[r]) same = false;
+                }
+                if (!same) recUpper++;
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+
+            int[] recSa = saIs(recS, recUpper);
+            for (int i = 0; i < m; i++) sortedLms[i] = lms[recSa[i]];
+            induce(s, sa, ls, sumL, sumS, sortedLms);
+        }
+        return sa;
+    }
+
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] sumL, int[] sumS, int[] lms) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buf = sumS.clone();
+        for (int d : lms) if (d != n) sa[buf[s[d]]++] = d;
+        buf = sumL.clone();
+        sa[buf[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !ls[v - 1]) sa[buf[s[v - 1]]++] = v - 1;
+        }
+        buf = sumL.clone();
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && ls[v - 1]) sa[--buf[s[v - 1] + 1]] = v - 1;
+        }
+    }
+
+    /**
+     * -----------------------------------------------------
+     * KASAI
+     * -----------------------------------------------------
+     */
+    static int[] kasai(int[] s, int[] sa, int[] rank) {
+        int n = s.length;
+        int[] lcp = new int[n];
+        for (int i = 0, h = 0; i < n; i++) {
+            if (h > 0) h--;
+            if (rank[i] == 0) { h = 0; continue; }
+            int j = sa[rank[i] - 1];
+            while (i + h < n && j + h < n && s[i + h] == s[j + h]) h++;
+            lcp[rank[i]] = h;
+        }
+        return lcp;
+    }
+
+    /**
+     * -----------------------------------------------------
+     * DRIVER CODE / TEST
+     * -----------------------------------------------------
+     */
+    public static void main(String[] args) {
+
+        System.out.println("=== Suffix Array (SA-IS) + LCP (Kasai) ===\n");
+
+        String s = "banana";
+        SuffixArray sa = SuffixArray.of(s);
+        System.out.println("SA : " + Arrays.toString(sa.suffixArray()));   // [5, 3, 1, 0, 4, 2]
+        System.out.println("LCP: " + Arrays.toString(sa.lcpArray()));      // [0, 1, 3, 0, 0, 2]
+        System.out.println("Distinct substrings: " + sa.distinctSubstrings()); // 15
+        int[] rep = sa.longestRepeated();
+        System.out.println("Longest repeated: " + s.substring(rep[0], rep[0] + rep[1])); // ana
+        int[] third = sa.kthSubstring(3);
+        System.out.println("3rd substring: " + s.substring(third[0], third[0] + third[1])); // ana
+
+        // small random strings against brute force
+        Random rnd = new Random(9);
+        int mismatches = 0;
+        for (int t = 0; t < 2_000; t++) {
+            char[] c = new char[rnd.nextInt(30)];
+            for (int i = 0; i < c.length; i++) c[i] = (char) ('a' + rnd.nextInt(1 + t % 4));
+            String x = new String(c);
+            SuffixArray xs = SuffixArray.of(x);
+            TreeSet<String> all = new TreeSet<>();
+            for (int i = 0; i < x.length(); i++) for (int j = i + 1; j <= x.length(); j++) all.add(x.substring(i, j));
+            if (xs.distinctSubstrings() != all.size()) mismatches++;
+            long k = 1;
+            for (String sub : all) {
+                int[] kth = xs.kthSubstring(k++);
+                if (!x.substring(kth[0], kth[0] + kth[1]).equals(sub)) { mismatches++; break; }
+            }
+            String[] suffixes = new String[x.length()];
+            for (int i = 0; i < suffixes.length; i++) suffixes[i] = x.substring(i);
+            Arrays.sort(suffixes);
+            int[] order = xs.suffixArray();
+            for (int i = 0; i < order.length; i++) if (!suffixes[i].equals(x.substring(order[i]))) { mismatches++; break; }
+        }
+        System.out.println("Random strings vs brute force: " + mismatches + " mismatches");
+
+        // one million bytes
+        byte[] big = new byte[1_000_000];
+        for (int i = 0; i < big.length; i++) big[i] = (byte) "ACGT".charAt(rnd.nextInt(4));
+        long t0 = System.nanoTime();
+        SuffixArray bs = SuffixArray.of(big);
+        long t1 = System.nanoTime();
+        int[] lr = bs.longestRepeated();
+        System.out.printf("1,000,000 DNA bytes: %d distinct substrings, longest repeat %s (%.0f ms)%n",
+                bs.distinctSubstrings(), new String(big, lr[0], lr[1], StandardCharsets.US_ASCII), (t1 - t0) / 1e6);
+    }
+}
@@ -115,7 +115,7 @@ public class CountNumberOfSubstrings {
      * Counts distinct substrings (removes duplicates).
      * Uses HashSet to store all unique substrings encountered.
      * Useful for problems requiring unique substring count.
-     * O(n^2) time and space.
+     * O(n^2) time and space; SuffixArray.distinctSubstrings() does it in O(n).
      * 
      * @param s input string
      * @return count of distinct substrings